@@ -0,0 +1,51 @@
+package helix.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import helix.command.Command;
+import helix.command.CommandFactory;
+import helix.exception.HelixException;
+
+/**
+ * Measures how long {@link CommandFactory#parseCommand(String)} takes for each kind of command,
+ * including commands entered by alias or abbreviation.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=CommandParsingBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandParsingBenchmark {
+    @Param({
+        "todo read book",
+        "deadline submit report /by 2019-10-15 1800",
+        "event team meeting /from 2/10/2019 1400 /to 2/10/2019 1600",
+        "mark 3",
+        "find book",
+        "list",
+        "update 2 deadline submit report /by 2019-10-15 1800",
+        "un 3"
+    })
+    private String input;
+
+    /**
+     * Parses the input into a command.
+     *
+     * @return the parsed command
+     * @throws HelixException never, as every input is valid
+     */
+    @Benchmark
+    public Command parseCommand() throws HelixException {
+        return CommandFactory.parseCommand(input);
+    }
+}
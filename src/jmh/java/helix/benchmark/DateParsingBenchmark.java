@@ -0,0 +1,65 @@
+package helix.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import helix.task.DateTimeParser;
+
+/**
+ * Measures date-time parsing with {@link DateTimeParser} against trying each formatter in turn.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=DateParsingBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateParsingBenchmark {
+    private static final DateTimeFormatter[] INPUT_FORMATTERS = {
+        DateTimeFormatter.ofPattern("d/M/yyyy HHmm"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"),
+        DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a", Locale.ENGLISH)
+    };
+
+    @Param({"2/12/2019 1800", "2019-10-15 1800", "Oct 11 2019, 5:00 PM"})
+    private String input;
+
+    /**
+     * Parses with the shape-detecting parser.
+     *
+     * @return the parsed date-time
+     */
+    @Benchmark
+    public LocalDateTime parseWithDateTimeParser() {
+        return DateTimeParser.parse(input);
+    }
+
+    /**
+     * Parses by trying each formatter until one succeeds, as {@code Deadline} and {@code Event} did before.
+     *
+     * @return the parsed date-time
+     */
+    @Benchmark
+    public LocalDateTime parseWithFormatterChain() {
+        for (DateTimeFormatter formatter : INPUT_FORMATTERS) {
+            try {
+                return LocalDateTime.parse(input, formatter);
+            } catch (DateTimeParseException ignored) {
+                // Try the next formatter
+            }
+        }
+        throw new IllegalArgumentException("Invalid date format: " + input);
+    }
+}
@@ -0,0 +1,82 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import helix.enums.TaskStatus;
+import helix.task.Deadline;
+import helix.task.Task;
+import helix.task.TaskList;
+
+/**
+ * Measures the latency of finding the pending deadlines due before a date by scanning the task columns,
+ * against a scan over the task objects.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=DeadlineScanBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeadlineScanBenchmark {
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    @Param({"100000", "1000000"})
+    private int taskCount;
+
+    @Param({"MIXED", "DATED"})
+    private TaskFileGenerator.TaskMix taskMix;
+
+    private TaskList taskList;
+
+    /**
+     * Builds a task list of generated tasks and warms up the task columns with a first query.
+     *
+     * @throws IOException never, as the storage is in memory
+     */
+    @Setup
+    public void setUp() throws IOException {
+        taskList = new TaskList(new InMemoryStorage(TaskFileGenerator.generateTasks(taskCount, taskMix)));
+        taskList.findPendingDeadlinesBefore(BEFORE);
+    }
+
+    /**
+     * Scans the task columns.
+     *
+     * @return the matching deadlines
+     */
+    @Benchmark
+    public List<Task> scanColumns() {
+        return taskList.findPendingDeadlinesBefore(BEFORE);
+    }
+
+    /**
+     * Scans the task objects, reading each task's type, status and due date through its getters.
+     *
+     * @return the matching deadlines
+     */
+    @Benchmark
+    public List<Task> scanObjects() {
+        List<Task> matchingTasks = new ArrayList<>();
+        for (Task task : taskList.getTasks()) {
+            if (task instanceof Deadline deadline && task.getTaskStatus() != TaskStatus.COMPLETED
+                    && deadline.getDueDate().isBefore(BEFORE)) {
+                matchingTasks.add(task);
+            }
+        }
+        return matchingTasks;
+    }
+}
@@ -0,0 +1,129 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import helix.command.FindCommand;
+import helix.command.SearchCommand;
+import helix.task.Task;
+import helix.task.TaskList;
+import helix.task.Todo;
+import helix.ui.ConsoleUi;
+
+/**
+ * Measures the latency of keyword searches with the keyword index against a linear scan,
+ * of the whole {@code find} command including formatting its output, and of ranked searches.
+ * The misspelt keyword only has results in the ranked search.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=FindCommandBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandBenchmark {
+    private static final String[] WORDS = {
+        "buy", "groceries", "submit", "report", "meeting", "team", "call", "mum", "read", "book",
+        "gym", "project", "review", "pay", "bills", "clean", "room", "plan", "trip", "email"
+    };
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"dentist", "report", "dentsit"})
+    private String keyword;
+
+    private TaskList taskList;
+    private ConsoleUi consoleUi;
+
+    /**
+     * Builds a task list of random descriptions with a handful of rare ones mixed in,
+     * warms up the keyword index with a first search and starts discarding standard output.
+     *
+     * @throws IOException never, as the storage is in memory
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            if (i % 10_000 == 0) {
+                description += " dentist";
+            }
+            tasks.add(new Todo(description));
+        }
+        taskList = new TaskList(new InMemoryStorage(tasks));
+        taskList.findTasks(keyword);
+        consoleUi = new ConsoleUi();
+        NullOutput.redirect();
+    }
+
+    /**
+     * Restores standard output.
+     */
+    @TearDown
+    public void tearDown() {
+        NullOutput.restore();
+    }
+
+    /**
+     * Searches through the keyword index.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public List<Task> findWithIndex() {
+        return taskList.findTasks(keyword);
+    }
+
+    /**
+     * Searches by scanning every description, as {@code FindCommand} did before the index existed.
+     *
+     * @return the matching tasks
+     */
+    @Benchmark
+    public List<Task> findWithLinearScan() {
+        return taskList.getTasks().stream()
+                .filter(task -> task.getDescription().toLowerCase(Locale.ROOT)
+                        .contains(keyword.toLowerCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the {@code find} command, which searches through the index and formats the results.
+     *
+     * @return the message the graphical interface would show
+     */
+    @Benchmark
+    public String findCommand() {
+        new FindCommand(keyword).execute(taskList, consoleUi);
+        return consoleUi.getLastMessage();
+    }
+
+    /**
+     * Ranks every task against the keyword, allowing for typos, and keeps the best few.
+     *
+     * @return the best matching tasks
+     */
+    @Benchmark
+    public List<Task> searchRanked() {
+        return taskList.searchTasks(keyword, SearchCommand.RESULT_LIMIT);
+    }
+}
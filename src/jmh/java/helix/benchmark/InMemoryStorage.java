@@ -0,0 +1,49 @@
+package helix.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import helix.storage.Storage;
+import helix.task.Task;
+
+/**
+ * Implements an in-memory version of the {@code Storage} class for benchmarks.
+ *
+ * <p>
+ * Loading returns a copy of a prepared list of tasks and saving does nothing, so benchmarks
+ * of the task list and commands measure their own cost rather than file I/O.
+ * </p>
+ */
+public class InMemoryStorage extends Storage {
+    private final List<Task> tasks;
+
+    /**
+     * Constructs an {@code InMemoryStorage} that loads the given tasks.
+     *
+     * @param tasks the tasks returned by {@link #load()}
+     */
+    public InMemoryStorage(List<Task> tasks) {
+        super("");
+        this.tasks = tasks;
+    }
+
+    /**
+     * Returns a copy of the prepared tasks.
+     *
+     * @return a mutable {@link List} of the prepared {@link Task} objects
+     */
+    @Override
+    public List<Task> load() {
+        return new ArrayList<>(tasks);
+    }
+
+    /**
+     * Does nothing, as this storage does not persist anything.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to "save" (ignored)
+     */
+    @Override
+    public void save(List<Task> taskList) {
+        // Do nothing, as benchmarks should not measure file I/O
+    }
+}
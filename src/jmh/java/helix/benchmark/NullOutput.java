@@ -0,0 +1,33 @@
+package helix.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Redirects standard output to a stream that discards everything, so that benchmarks of console
+ * output measure formatting rather than the terminal.
+ */
+public class NullOutput {
+    private static PrintStream originalOut;
+
+    private NullOutput() {
+    }
+
+    /**
+     * Starts discarding standard output.
+     */
+    public static void redirect() {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Restores the standard output that was in place before {@link #redirect()}.
+     */
+    public static void restore() {
+        if (originalOut != null) {
+            System.setOut(originalOut);
+            originalOut = null;
+        }
+    }
+}
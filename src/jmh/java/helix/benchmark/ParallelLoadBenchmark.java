@@ -0,0 +1,81 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import helix.benchmark.TaskFileGenerator.TaskMix;
+import helix.storage.ParallelTaskFileReader;
+import helix.task.Task;
+
+/**
+ * Measures how loading a large task file with {@link ParallelTaskFileReader} scales with the number of threads.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ParallelLoadBenchmark}. With one thread, the file is still split
+ * into chunks, so that result also shows the overhead of chunking compared to {@code StorageBenchmark.load}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelLoadBenchmark {
+    @Param({"100000", "1000000"})
+    private int taskCount;
+
+    @Param({"1", "2", "4", "8"})
+    private int threadCount;
+
+    private Path file;
+    private ForkJoinPool pool;
+    private ParallelTaskFileReader reader;
+
+    /**
+     * Writes a generated task file and starts a pool with the configured number of threads.
+     *
+     * @throws IOException if the task file could not be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("helix-benchmark", ".txt");
+        TaskFileGenerator.writeTaskFile(file, taskCount, TaskMix.MIXED);
+        pool = new ForkJoinPool(threadCount);
+        reader = new ParallelTaskFileReader(pool, Charset.defaultCharset());
+    }
+
+    /**
+     * Stops the pool and deletes the generated file.
+     *
+     * @throws IOException if the file could not be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Loads every task from the task file.
+     *
+     * @return the loaded tasks
+     * @throws IOException if the task file could not be read
+     */
+    @Benchmark
+    public List<Task> load() throws IOException {
+        return reader.read(file);
+    }
+}
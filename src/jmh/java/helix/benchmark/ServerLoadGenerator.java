@@ -0,0 +1,138 @@
+package helix.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures the throughput and latency of a running Helix server.
+ *
+ * <p>
+ * Each client opens its own connection and sends commands back to back, waiting for every response before
+ * sending the next command. Most commands are queries; every tenth adds a task. The generator reports
+ * commands per second and the median and 99th percentile latency over all clients.
+ * </p>
+ *
+ * <p>
+ * Start a server with {@code helix --server}, then run
+ * {@code ./gradlew serverLoad -Pport=5150 -Pclients=16 -Pcommands=2000}.
+ * </p>
+ */
+public class ServerLoadGenerator {
+    private static final String[] QUERIES = {"list 1", "find book", "list --limit 5 --offset 10", "find report"};
+    private static final int WRITE_EVERY = 10;
+
+    private ServerLoadGenerator() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the port, the number of clients and the number of commands per client
+     * @throws Exception if a client fails
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 5150;
+        int clientCount = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int commandsPerClient = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        for (int c = 0; c < clientCount; c++) {
+            int clientId = c;
+            results.add(clients.submit(() -> runClient(port, clientId, commandsPerClient, startGate)));
+        }
+        long start = System.nanoTime();
+        startGate.countDown();
+        long[] latencies = new long[clientCount * commandsPerClient];
+        int next = 0;
+        for (Future<long[]> result : results) {
+            long[] clientLatencies = result.get();
+            System.arraycopy(clientLatencies, 0, latencies, next, clientLatencies.length);
+            next += clientLatencies.length;
+        }
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("clients=%d commands=%d elapsed=%.2fs%n", clientCount, latencies.length, elapsed / 1e9);
+        System.out.printf("throughput=%.0f commands/s%n", latencies.length / (elapsed / 1e9));
+        System.out.printf("p50=%.1fus p99=%.1fus max=%.1fus%n", percentile(latencies, 0.50) / 1e3,
+                percentile(latencies, 0.99) / 1e3, latencies[latencies.length - 1] / 1e3);
+    }
+
+    /**
+     * Sends commands over one connection and records how long each response took.
+     *
+     * @param port the server port
+     * @param clientId the client number, used to label added tasks
+     * @param commandCount the number of commands to send
+     * @param startGate the latch that releases all clients at once
+     * @return the latency of each command, in nanoseconds
+     * @throws IOException if the connection fails
+     * @throws InterruptedException if interrupted while waiting to start
+     */
+    private static long[] runClient(int port, int clientId, int commandCount, CountDownLatch startGate)
+            throws IOException, InterruptedException {
+        long[] latencies = new long[commandCount];
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            startGate.await();
+            for (int i = 0; i < commandCount; i++) {
+                String command = i % WRITE_EVERY == 0
+                        ? "todo load test " + clientId + "-" + i
+                        : QUERIES[i % QUERIES.length];
+                long sent = System.nanoTime();
+                out.write(command + "\n");
+                out.flush();
+                readResponse(in);
+                latencies[i] = System.nanoTime() - sent;
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Reads one response, up to and including the line holding a single dot.
+     *
+     * @param in the connection's input
+     * @throws IOException if the connection closes before the response ends
+     */
+    private static void readResponse(BufferedReader in) throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.equals(".")) {
+                return;
+            }
+        }
+        throw new IOException("Connection closed mid-response");
+    }
+
+    /**
+     * Retrieves a percentile from sorted values.
+     *
+     * @param sorted the values, in ascending order
+     * @param fraction the percentile as a fraction, e.g. 0.99
+     * @return the value at that percentile
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,129 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import helix.benchmark.TaskFileGenerator.TaskMix;
+import helix.enums.Durability;
+import helix.enums.MutationType;
+import helix.enums.StorageMode;
+import helix.enums.TaskStatus;
+import helix.storage.Storage;
+import helix.storage.StorageFactory;
+import helix.storage.TaskMutation;
+import helix.task.Task;
+
+/**
+ * Measures loading and saving a generated task file with each storage mode and durability level.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=StorageBenchmark}. The durability level mostly affects
+ * {@code save}; comparing its levels shows what fsync and the temporary-file rename cost on a given disk.
+ * The {@code gc} profiler's {@code gc.alloc.rate.norm} shows the bytes allocated per operation, which for
+ * {@code save} in the text modes is mostly independent of the number of tasks.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"TODOS", "MIXED", "DATED"})
+    private TaskMix taskMix;
+
+    @Param({"TEXT", "JOURNAL", "BINARY", "LAZY", "INCREMENTAL"})
+    private StorageMode storageMode;
+
+    @Param({"NONE", "ATOMIC", "SYNC"})
+    private Durability durability;
+
+    private Path directory;
+    private Storage storage;
+    private List<Task> tasks;
+
+    /**
+     * Writes a generated task file and loads it once, so that modes that convert the
+     * text file on first load have done so before measurement.
+     *
+     * @throws IOException if the task file could not be written or loaded
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("helix-benchmark");
+        Path file = directory.resolve("tasks.txt");
+        TaskFileGenerator.writeTaskFile(file, taskCount, taskMix);
+        storage = StorageFactory.createStorage(storageMode, file.toString(), durability);
+        tasks = storage.load();
+    }
+
+    /**
+     * Deletes the generated files.
+     *
+     * @throws IOException if the files could not be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Loads every task from the task file.
+     *
+     * @return the loaded tasks
+     * @throws IOException if the task file could not be read
+     */
+    @Benchmark
+    public List<Task> load() throws IOException {
+        return storage.load();
+    }
+
+    /**
+     * Saves every task to the task file.
+     *
+     * @throws IOException if the task file could not be written
+     */
+    @Benchmark
+    public void save() throws IOException {
+        storage.save(tasks);
+    }
+
+    /**
+     * Toggles the status of one task in the middle of the list and persists that single change.
+     *
+     * @throws IOException if the change could not be written
+     */
+    @Benchmark
+    public void recordStatusChange() throws IOException {
+        int taskIndex = tasks.size() / 2;
+        Task task = tasks.get(taskIndex);
+        boolean isDone = task.getTaskStatus() == TaskStatus.COMPLETED;
+        if (isDone) {
+            task.markAsUndone();
+        } else {
+            task.markAsDone();
+        }
+        MutationType mutationType = isDone ? MutationType.UNMARK : MutationType.MARK;
+        storage.record(List.of(new TaskMutation(mutationType, taskIndex, task)), tasks);
+    }
+}
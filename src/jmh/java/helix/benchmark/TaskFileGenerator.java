@@ -0,0 +1,94 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import helix.storage.Storage;
+import helix.task.Deadline;
+import helix.task.Event;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Generates synthetic tasks and task files for benchmarks.
+ *
+ * <p>
+ * Tasks are generated from a fixed seed, so every run of a benchmark works on the same data.
+ * Files are written through {@link Storage}, so they are in exactly the format the application reads.
+ * </p>
+ */
+public class TaskFileGenerator {
+    /**
+     * Represents the proportions of each task type in the generated tasks.
+     */
+    public enum TaskMix {
+        TODOS(100, 0),
+        MIXED(40, 30),
+        DATED(0, 50);
+
+        private final int todoPercent;
+        private final int deadlinePercent;
+
+        TaskMix(int todoPercent, int deadlinePercent) {
+            this.todoPercent = todoPercent;
+            this.deadlinePercent = deadlinePercent;
+        }
+    }
+
+    private static final String[] WORDS = {
+        "buy", "groceries", "submit", "report", "meeting", "team", "call", "mum", "read", "book",
+        "gym", "project", "review", "pay", "bills", "clean", "room", "plan", "trip", "email"
+    };
+    private static final LocalDateTime FIRST_DATE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int DATE_RANGE_MINUTES = 365 * 24 * 60;
+    private static final long SEED = 42;
+
+    private TaskFileGenerator() {
+    }
+
+    /**
+     * Generates tasks with random descriptions and dates, a third of which are marked as done.
+     *
+     * @param taskCount the number of tasks to generate
+     * @param taskMix the proportions of each task type
+     * @return the generated tasks
+     */
+    public static List<Task> generateTasks(int taskCount, TaskMix taskMix) {
+        Random random = new Random(SEED);
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            LocalDateTime start = FIRST_DATE.plusMinutes(random.nextInt(DATE_RANGE_MINUTES));
+            int roll = random.nextInt(100);
+            Task task;
+            if (roll < taskMix.todoPercent) {
+                task = new Todo(description);
+            } else if (roll < taskMix.todoPercent + taskMix.deadlinePercent) {
+                task = new Deadline(description, start);
+            } else {
+                task = new Event(description, start, start.plusMinutes(30 + random.nextInt(240)));
+            }
+            if (random.nextInt(3) == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Writes generated tasks to a task file in the plain text format.
+     *
+     * @param file the file to write
+     * @param taskCount the number of tasks to generate
+     * @param taskMix the proportions of each task type
+     * @throws IOException if the file could not be written
+     */
+    public static void writeTaskFile(Path file, int taskCount, TaskMix taskMix) throws IOException {
+        new Storage(file.toString()).save(generateTasks(taskCount, taskMix));
+    }
+}
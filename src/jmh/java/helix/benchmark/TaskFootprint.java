@@ -0,0 +1,86 @@
+package helix.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import helix.benchmark.TaskFileGenerator.TaskMix;
+import helix.enums.StorageMode;
+import helix.storage.StorageFactory;
+import helix.task.Task;
+
+/**
+ * Measures how much heap a loaded task list takes per task.
+ *
+ * <p>
+ * A generated task file is loaded through the chosen storage mode, and the used heap after a full garbage
+ * collection is compared before and after loading. The difference is everything the loaded list keeps alive:
+ * the tasks, their descriptions and dates, and the list itself.
+ * </p>
+ *
+ * <p>
+ * Run with {@code ./gradlew taskFootprint -Ptasks=1000000 -Pmix=MIXED -Pmode=TEXT}.
+ * </p>
+ */
+public class TaskFootprint {
+    private static final int GC_ROUNDS = 5;
+
+    private TaskFootprint() {
+    }
+
+    /**
+     * Runs the measurement.
+     *
+     * @param args the number of tasks, the task mix and the storage mode
+     * @throws IOException if the task file could not be written or loaded
+     * @throws InterruptedException if interrupted while waiting for garbage collection
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int taskCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        TaskMix taskMix = args.length > 1 ? TaskMix.valueOf(args[1]) : TaskMix.MIXED;
+        StorageMode storageMode = args.length > 2 ? StorageMode.fromName(args[2]) : StorageMode.TEXT;
+
+        Path directory = Files.createTempDirectory("helix-footprint");
+        try {
+            Path file = directory.resolve("tasks.txt");
+            TaskFileGenerator.writeTaskFile(file, taskCount, taskMix);
+
+            long heapBefore = usedHeapAfterGc();
+            List<Task> tasks = StorageFactory.createStorage(storageMode, file.toString()).load();
+            long heapAfter = usedHeapAfterGc();
+            Reference.reachabilityFence(tasks);
+
+            long retainedBytes = heapAfter - heapBefore;
+            System.out.printf("%d %s tasks loaded in %s mode retain %.1f MB, %.1f bytes per task%n",
+                    tasks.size(), taskMix, storageMode, retainedBytes / 1024.0 / 1024.0,
+                    (double) retainedBytes / tasks.size());
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs several full garbage collections and reports the heap that is still in use.
+     *
+     * @return the used heap in bytes
+     * @throws InterruptedException if interrupted while waiting for garbage collection
+     */
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            memory.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,69 @@
+package helix.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import helix.benchmark.TaskFileGenerator.TaskMix;
+import helix.task.Task;
+import helix.ui.ConsoleUi;
+
+/**
+ * Measures how long {@link ConsoleUi#showTaskList(List)} takes to format the task list.
+ * Standard output is discarded during the benchmark.
+ *
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=TaskListDisplayBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskListDisplayBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int taskCount;
+
+    @Param({"TODOS", "MIXED", "DATED"})
+    private TaskMix taskMix;
+
+    private List<Task> tasks;
+    private ConsoleUi consoleUi;
+
+    /**
+     * Generates the tasks and starts discarding standard output.
+     */
+    @Setup
+    public void setUp() {
+        tasks = TaskFileGenerator.generateTasks(taskCount, taskMix);
+        consoleUi = new ConsoleUi();
+        NullOutput.redirect();
+    }
+
+    /**
+     * Restores standard output.
+     */
+    @TearDown
+    public void tearDown() {
+        NullOutput.restore();
+    }
+
+    /**
+     * Displays the whole task list.
+     *
+     * @return the message the graphical interface would show
+     */
+    @Benchmark
+    public String showTaskList() {
+        consoleUi.showTaskList(tasks);
+        return consoleUi.getLastMessage();
+    }
+}
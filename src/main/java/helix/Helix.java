@@ -2,12 +2,20 @@ package helix;
 
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import helix.command.Command;
 import helix.command.CommandFactory;
+import helix.enums.Durability;
 import helix.enums.FilePath;
+import helix.enums.StorageMode;
 import helix.exception.HelixException;
+import helix.server.HelixServer;
+import helix.storage.BinaryStorage;
 import helix.storage.Storage;
+import helix.storage.StorageFactory;
 import helix.task.TaskList;
 import helix.ui.ConsoleUi;
 
@@ -21,9 +29,27 @@ import helix.ui.ConsoleUi;
  * </p>
  */
 public class Helix {
+    private static final String STORAGE_MODE_PROPERTY = "helix.storage.mode";
+    private static final String DURABILITY_PROPERTY = "helix.storage.durability";
+    private static final String FLUSH_INTERVAL_PROPERTY = "helix.storage.flushIntervalMs";
+    private static final String FLUSH_BATCH_SIZE_PROPERTY = "helix.storage.flushBatchSize";
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 500;
+    private static final int DEFAULT_FLUSH_BATCH_SIZE = 64;
+    private static final String SERVER_OPTION = "--server";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String EXPORT_OPTION = "--export";
+    private static final int DEFAULT_SERVER_PORT = 5150;
+
     private final Storage storage;
     private TaskList taskList;
+    private String loadingError;
     private final ConsoleUi consoleUi;
+    private final boolean isQuiet;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "helix-command");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a new instance of the Helix application.
@@ -31,9 +57,23 @@ public class Helix {
      * @param filePath The file path to the storage file where tasks are saved and loaded.
      */
     public Helix(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a new instance of the Helix application, optionally running commands without printing
+     * their output to the console. Errors while loading the tasks are printed either way.
+     *
+     * @param filePath The file path to the storage file where tasks are saved and loaded.
+     * @param isQuiet True to only return the output of each command, as in server and batch mode.
+     */
+    public Helix(String filePath, boolean isQuiet) {
         this.consoleUi = new ConsoleUi();
+        this.isQuiet = isQuiet;
         String resolvedFilePath = resolveFilePath();
-        this.storage = new Storage(resolvedFilePath);
+        StorageMode storageMode = StorageMode.fromName(System.getProperty(STORAGE_MODE_PROPERTY));
+        Durability durability = Durability.fromName(System.getProperty(DURABILITY_PROPERTY));
+        this.storage = StorageFactory.createStorage(storageMode, resolvedFilePath, durability);
         initializeTaskList();
     }
 
@@ -50,29 +90,41 @@ public class Helix {
     }
 
     /**
-     * Initializes the task list from storage.
-     * Displays an error message if loading fails.
+     * Initializes the task list from storage, batching writes according to the configured flush settings.
+     * If loading fails, for example because the file's checksum does not match or a line cannot be parsed,
+     * the error is displayed and kept as the answer to every command, and the file is left as it is.
      */
     private void initializeTaskList() {
+        long flushIntervalMillis = Long.getLong(FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL_MILLIS);
+        int flushBatchSize = Integer.getInteger(FLUSH_BATCH_SIZE_PROPERTY, DEFAULT_FLUSH_BATCH_SIZE);
         try {
-            this.taskList = new TaskList(storage);
+            this.taskList = new TaskList(storage, flushIntervalMillis, flushBatchSize);
             assert taskList != null : "TaskList initialization failed!";
-        } catch (IOException e) {
-            consoleUi.showLoadingStorageError();
+        } catch (IOException | IllegalArgumentException e) {
+            // A damaged checksum or a line that cannot be parsed both mean the file must not be overwritten
+            consoleUi.showLoadingStorageError(e.getMessage());
+            loadingError = consoleUi.getLastMessage();
         }
     }
 
     /**
      * Executes a user command and returns the response message.
+     * May be called from several threads at once: each command runs atomically on the task list
+     * and writes its response to its own {@link ConsoleUi}.
      *
      * @param userInput The user input string representing the command.
-     * @return A string containing the result of execution or an error message.
+     * @return A string containing the result of execution or an error message, or the loading error
+     *         if the tasks could not be loaded.
      */
     public String executeCommand(String userInput) {
+        if (taskList == null) {
+            return loadingError;
+        }
         try {
             Command command = CommandFactory.parseCommand(userInput);
-            command.execute(taskList, consoleUi);
-            return consoleUi.getLastMessage();
+            ConsoleUi commandUi = new ConsoleUi(isQuiet);
+            taskList.runAtomically(command.isReadOnly(), () -> command.execute(taskList, commandUi));
+            return commandUi.getLastMessage();
         } catch (HelixException e) {
             return e.getFormattedMessage();
         } catch (Exception e) {
@@ -80,12 +132,110 @@ public class Helix {
         }
     }
 
+    /**
+     * Executes a user command on a background thread, so that callers such as the GUI are not blocked
+     * by storage I/O. Commands run one at a time in the order they were submitted, so the returned
+     * futures also complete in submission order.
+     *
+     * @param userInput The user input string representing the command.
+     * @return A future completed with the result of execution or an error message.
+     */
+    public CompletableFuture<String> executeCommandAsync(String userInput) {
+        return CompletableFuture.supplyAsync(() -> executeCommand(userInput), commandExecutor);
+    }
+
     /**
      * Starts the Helix application.
+     * With {@code --server [port]}, serves commands to local clients over TCP instead of
+     * running interactively; the port defaults to 5150.
+     * With {@code --batch <file>}, runs the commands in the file, prints their results and exits.
+     * With {@code --export}, writes the tasks of the binary snapshot to the text file and exits.
      *
-     * @param args Command-line arguments (not used in this application).
+     * @param args Command-line arguments.
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(SERVER_OPTION)) {
+            runServer(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(BATCH_OPTION)) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(EXPORT_OPTION)) {
+            runExport();
+            return;
+        }
         System.out.println("Helix Running.");
     }
+
+    /**
+     * Runs Helix as a headless server until the process is stopped.
+     *
+     * @param args Command-line arguments, of which the second, if present, is the port.
+     */
+    private static void runServer(String[] args) {
+        int port;
+        try {
+            port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SERVER_PORT;
+        } catch (NumberFormatException e) {
+            System.out.println("Usage: helix --server [port]");
+            return;
+        }
+        Helix helix = new Helix(FilePath.STORAGE_FILE.getPath(), true);
+        if (helix.taskList == null) {
+            return;
+        }
+        int workerCount = Runtime.getRuntime().availableProcessors();
+        try (HelixServer server = new HelixServer(helix::executeCommand, CommandFactory::isServerCommand,
+                CommandFactory::isExitCommand, port, workerCount)) {
+            System.out.println("Helix server listening on port " + server.getPort() + ".");
+            server.run();
+        } catch (IOException e) {
+            System.out.println("Helix server stopped: " + e.getMessage());
+        }
+        helix.taskList.close(helix.consoleUi);
+    }
+
+    /**
+     * Runs the commands in a batch file and prints the results.
+     *
+     * @param args Command-line arguments, of which the second is the batch file.
+     */
+    private static void runBatch(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: helix --batch <file>");
+            return;
+        }
+        Helix helix = new Helix(FilePath.STORAGE_FILE.getPath(), true);
+        if (helix.taskList == null) {
+            return;
+        }
+        String result = helix.executeCommand("batch " + args[1]);
+        helix.taskList.close(helix.consoleUi);
+        System.out.println(result);
+    }
+
+    /**
+     * Writes the tasks kept in the binary snapshot to the human-readable text file, so that Helix can be
+     * switched back to another storage mode without losing the changes made in binary mode.
+     */
+    private static void runExport() {
+        Helix helix = new Helix(FilePath.STORAGE_FILE.getPath());
+        if (helix.taskList == null) {
+            return;
+        }
+        if (!(helix.storage instanceof BinaryStorage binaryStorage)) {
+            System.out.println("Only binary mode keeps tasks outside the text file, so there is nothing to export.");
+            helix.taskList.close(helix.consoleUi);
+            return;
+        }
+        try {
+            binaryStorage.exportText(helix.taskList.getTasks());
+            System.out.println("Exported " + helix.taskList.getTaskCount() + " task(s) to the text file.");
+        } catch (IOException e) {
+            System.out.println("Export failed: " + e.getMessage());
+        }
+        helix.taskList.close(helix.consoleUi);
+    }
 }
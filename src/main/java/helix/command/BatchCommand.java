@@ -0,0 +1,116 @@
+package helix.command;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import helix.enums.CommandType;
+import helix.exception.HelixException;
+import helix.exception.InvalidBatchFileException;
+import helix.task.TaskList;
+import helix.ui.ConsoleUi;
+
+/**
+ * Represents a command that runs every command in a file as one batch.
+ *
+ * <p>
+ * All commands are parsed before any of them runs, so a file with a mistake changes nothing.
+ * The commands then run in order with no other command in between, and their changes are saved
+ * to storage once at the end instead of after each command.
+ * </p>
+ */
+public class BatchCommand extends Command {
+    private final Path batchFile;
+
+    /**
+     * Constructs a BatchCommand for the specified file.
+     *
+     * @param batchFile the file holding one command per line
+     */
+    public BatchCommand(Path batchFile) {
+        super(CommandType.BATCH);
+        this.batchFile = batchFile;
+    }
+
+    /**
+     * Executes the batch command by parsing every command in the file, running them all
+     * and displaying each command's result followed by the overall throughput.
+     *
+     * @param taskList the TaskList the commands operate on
+     * @param consoleUi the ConsoleUi component used to display messages to the user
+     * @throws InvalidBatchFileException if the file cannot be read or any command in it is invalid
+     * @throws HelixException if the batch fails
+     */
+    @Override
+    public void execute(TaskList taskList, ConsoleUi consoleUi) throws HelixException {
+        List<String> inputs = readInputs();
+        List<Command> commands = parseCommands(inputs);
+
+        List<String> results = new ArrayList<>(commands.size());
+        long start = System.nanoTime();
+        taskList.runBatch(() -> {
+            for (Command command : commands) {
+                ConsoleUi commandUi = new ConsoleUi(consoleUi.isQuiet());
+                try {
+                    command.execute(taskList, commandUi);
+                    results.add(commandUi.getLastMessage());
+                } catch (HelixException e) {
+                    results.add(e.getFormattedMessage());
+                }
+            }
+        }, consoleUi);
+        long elapsedNanos = System.nanoTime() - start;
+
+        consoleUi.showBatchResults(inputs, results, elapsedNanos);
+    }
+
+    /**
+     * Reads the non-blank lines of the batch file.
+     *
+     * @return the commands as entered, in file order
+     * @throws InvalidBatchFileException if the file cannot be read
+     */
+    private List<String> readInputs() throws InvalidBatchFileException {
+        try {
+            List<String> inputs = new ArrayList<>();
+            for (String line : Files.readAllLines(batchFile, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    inputs.add(line.trim());
+                }
+            }
+            return inputs;
+        } catch (IOException e) {
+            throw new InvalidBatchFileException("Could not read batch file " + batchFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parses every command up front, rejecting the batch if any of them is invalid.
+     * Batches cannot contain other batches or {@code bye}.
+     *
+     * @param inputs the commands as entered
+     * @return the parsed commands
+     * @throws InvalidBatchFileException if any command is invalid, naming its line
+     */
+    private static List<Command> parseCommands(List<String> inputs) throws InvalidBatchFileException {
+        List<Command> commands = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            Command command;
+            try {
+                command = CommandFactory.parseCommand(inputs.get(i));
+            } catch (HelixException e) {
+                throw new InvalidBatchFileException(
+                        "Command " + (i + 1) + " (" + inputs.get(i) + ") is invalid: " + e.getFormattedMessage());
+            }
+            if (command.getCommandType() == CommandType.BATCH || command.getCommandType() == CommandType.BYE) {
+                throw new InvalidBatchFileException(
+                        "Command " + (i + 1) + " (" + inputs.get(i) + ") cannot be used in a batch.");
+            }
+            commands.add(command);
+        }
+        return commands;
+    }
+}
@@ -48,4 +48,14 @@ public abstract class Command {
     public ExecutionStatus isExit() {
         return ExecutionStatus.CONTINUE;
     }
+
+    /**
+     * Determines whether the helix.command only reads the task list, so that it can run
+     * at the same time as other read-only commands.
+     *
+     * @return true if the helix.command does not change the task list, false otherwise
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
@@ -1,8 +1,20 @@
 package helix.command;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import helix.enums.CommandType;
+import helix.enums.ExecutionStatus;
 import helix.enums.TaskType;
 import helix.exception.HelixException;
 import helix.exception.InvalidCommandException;
@@ -10,14 +22,42 @@ import helix.exception.InvalidDateFormatException;
 import helix.exception.InvalidNumberFormatException;
 import helix.exception.MissingArgumentException;
 import helix.exception.TooManyArgumentsException;
+import helix.task.DateTimeParser;
 import helix.task.Deadline;
 import helix.task.Event;
 import helix.task.Todo;
 
 /**
  * Creates {@code Command} instances based on user input.
+ *
+ * <p>
+ * Commands are looked up in a table built once, keyed by every name a command can be entered as: its full name,
+ * its aliases, and any shorter prefix of its full name that no other command shares (e.g. {@code un} for
+ * {@code unmark}). Command names are matched ignoring case. Input is split with plain index searches rather than
+ * regular expressions, so parsing a command allocates little beyond the command itself.
+ * </p>
  */
 public class CommandFactory {
+    private static final String COMPLETED_TASKS_SELECTOR = "done";
+    private static final char TASK_ID_PREFIX = '#';
+    private static final String LIST_USAGE = "list, list <page> or list --limit <count> --offset <count>";
+    private static final Map<String, CommandType> COMMAND_TYPES = createCommandTypes();
+    private static final Map<CommandType, CommandParser> COMMAND_PARSERS = createCommandParsers();
+
+    /**
+     * Creates a {@link Command} from the arguments given to a command.
+     */
+    @FunctionalInterface
+    private interface CommandParser {
+        /**
+         * Creates the command.
+         *
+         * @param args the arguments given to the command, trimmed
+         * @return the created command
+         * @throws HelixException if the arguments are invalid
+         */
+        Command parse(String args) throws HelixException;
+    }
 
     /**
      * Parses user input and creates a {@link Command} based on the given input.
@@ -28,29 +68,129 @@ public class CommandFactory {
      * @throws HelixException if the helix.command is invalid or contains improper arguments
      */
     public static Command parseCommand(String input) throws HelixException {
-        String[] parts = input.trim().split(" ", 2);
-        String command = parts[0].toUpperCase(Locale.ROOT);
-        String args = parts.length > 1 ? parts[1].trim() : "";
+        String trimmedInput = input.trim();
+        int nameEnd = trimmedInput.indexOf(' ');
+        String args = nameEnd < 0 ? "" : trimmedInput.substring(nameEnd + 1).trim();
 
-        CommandType commandType;
-        try {
-            commandType = CommandType.valueOf(command);
-            assert commandType != null : "commandType should never be null!";
-        } catch (IllegalArgumentException e) {
+        CommandType commandType = getCommandType(trimmedInput);
+        if (commandType == null) {
             throw new InvalidCommandException();
         }
+        return COMMAND_PARSERS.get(commandType).parse(args);
+    }
+
+    /**
+     * Checks whether the input is a valid command that ends the session, under any name the exit command
+     * can be entered as.
+     *
+     * @param input the user input
+     * @return true if the parsed command signals that the application should exit, false otherwise
+     */
+    public static boolean isExitCommand(String input) {
+        try {
+            return parseCommand(input).isExit() == ExecutionStatus.EXIT;
+        } catch (HelixException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a command may be sent by a client of the server.
+     *
+     * <p>
+     * A batch file is read from the server's own disk, and the lines of a batch that fail are quoted in its
+     * response, so a client could use {@code batch} to read files it has no access to. Batches are therefore
+     * only run locally, by whoever started Helix.
+     * </p>
+     *
+     * @param input the command sent by the client
+     * @return true if the command may be run for the client, false if it must be rejected
+     */
+    public static boolean isServerCommand(String input) {
+        return getCommandType(input.trim()) != CommandType.BATCH;
+    }
+
+    /**
+     * Looks up the type of command named by the first word of the input, by any name it can be entered as.
+     *
+     * @param trimmedInput the user input, without leading or trailing whitespace
+     * @return the type of command, or null if the first word names no command
+     */
+    private static CommandType getCommandType(String trimmedInput) {
+        int nameEnd = trimmedInput.indexOf(' ');
+        String name = nameEnd < 0 ? trimmedInput : trimmedInput.substring(0, nameEnd);
+        return COMMAND_TYPES.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieves the method that creates each type of command.
+     *
+     * @return the methods that create commands from their arguments, keyed by command type
+     */
+    private static Map<CommandType, CommandParser> createCommandParsers() {
+        Map<CommandType, CommandParser> parsers = new EnumMap<>(CommandType.class);
+        for (CommandType commandType : CommandType.values()) {
+            parsers.put(commandType, getCommandParser(commandType));
+        }
+        return parsers;
+    }
+
+    /**
+     * Builds the dispatch table from every name a command can be entered as to the type of command.
+     * Full names and aliases are added first, so a prefix never hides them.
+     *
+     * @return the dispatch table, keyed by lower case command name
+     */
+    private static Map<String, CommandType> createCommandTypes() {
+        Map<String, CommandType> commandTypes = new HashMap<>();
+        for (CommandType commandType : CommandType.values()) {
+            commandTypes.put(commandType.name().toLowerCase(Locale.ROOT), commandType);
+            for (String alias : commandType.getAliases()) {
+                commandTypes.put(alias, commandType);
+            }
+        }
 
+        Map<String, CommandType> prefixOwners = new HashMap<>();
+        Set<String> sharedPrefixes = new HashSet<>();
+        for (CommandType commandType : CommandType.values()) {
+            String name = commandType.name().toLowerCase(Locale.ROOT);
+            for (int length = 1; length < name.length(); length++) {
+                String prefix = name.substring(0, length);
+                if (prefixOwners.putIfAbsent(prefix, commandType) != null) {
+                    sharedPrefixes.add(prefix);
+                }
+            }
+        }
+        prefixOwners.forEach((prefix, commandType) -> {
+            if (!sharedPrefixes.contains(prefix)) {
+                commandTypes.putIfAbsent(prefix, commandType);
+            }
+        });
+        return commandTypes;
+    }
+
+    /**
+     * Retrieves the method that creates commands of the given type.
+     *
+     * @param commandType the type of command
+     * @return the method that creates the command from its arguments
+     */
+    private static CommandParser getCommandParser(CommandType commandType) {
         return switch (commandType) {
-        case TODO -> createTodoCommand(args);
-        case DEADLINE -> createDeadlineCommand(args);
-        case EVENT -> createEventCommand(args);
-        case LIST -> createListCommand(args);
-        case MARK -> createMarkCommand(args);
-        case UNMARK -> createUnmarkCommand(args);
-        case DELETE -> createDeleteCommand(args);
-        case BYE -> createExitCommand(args);
-        case FIND -> createFindCommand(args);
-        case UPDATE -> createUpdateCommand(args);
+        case TODO -> CommandFactory::createTodoCommand;
+        case DEADLINE -> CommandFactory::createDeadlineCommand;
+        case EVENT -> CommandFactory::createEventCommand;
+        case LIST -> CommandFactory::createListCommand;
+        case MARK -> CommandFactory::createMarkCommand;
+        case UNMARK -> CommandFactory::createUnmarkCommand;
+        case DELETE -> CommandFactory::createDeleteCommand;
+        case BYE -> CommandFactory::createExitCommand;
+        case FIND -> CommandFactory::createFindCommand;
+        case SEARCH -> CommandFactory::createSearchCommand;
+        case UPDATE -> CommandFactory::createUpdateCommand;
+        case DUE -> CommandFactory::createDueCommand;
+        case OVERLAPPING -> CommandFactory::createOverlappingCommand;
+        case BATCH -> CommandFactory::createBatchCommand;
         };
     }
 
@@ -82,21 +222,24 @@ public class CommandFactory {
      * @throws TooManyArgumentsException if the helix.command contains too many arguments
      */
     private static Command createDeadlineCommand(String args) throws HelixException {
-        if (!args.contains(" /by ")) {
+        int byIndex = args.indexOf(" /by ");
+        if (byIndex < 0) {
             throw new MissingArgumentException(
                     TaskType.DEADLINE.name().toLowerCase(Locale.ROOT),
                     "deadline <description> /by <due date>"
             );
         }
-        String[] details = args.split(" /by ", 2);
-        if (details.length != 2 || details[1].split(" ").length > 2) {
+        String description = args.substring(0, byIndex);
+        String dueDate = args.substring(byIndex + " /by ".length());
+        int firstSpace = dueDate.indexOf(' ');
+        if (firstSpace >= 0 && dueDate.indexOf(' ', firstSpace + 1) >= 0) {
             throw new TooManyArgumentsException(
                     TaskType.DEADLINE.name().toLowerCase(Locale.ROOT),
                     "deadline <description> /by <due date>"
             );
         }
         try {
-            return new AddCommand(CommandType.DEADLINE, new Deadline(details[0].trim(), details[1].trim()));
+            return new AddCommand(CommandType.DEADLINE, new Deadline(description.trim(), dueDate.trim()));
         } catch (IllegalArgumentException e) {
             throw new InvalidDateFormatException(
                     "Invalid date format. Please use 'd/M/yyyy HHmm' or 'yyyy-MM-dd HHmm'."
@@ -117,7 +260,8 @@ public class CommandFactory {
      */
     private static Command createEventCommand(String args) throws HelixException {
         // Ensure the input contains valid format markers
-        if (!args.contains(" /from ") || !args.contains(" /to ")) {
+        int fromIndex = args.indexOf(" /from ");
+        if (fromIndex < 0 || !args.contains(" /to ")) {
             throw new MissingArgumentException(
                     TaskType.EVENT.name().toLowerCase(Locale.ROOT),
                     "event <description> /from <start date/time> /to <end date/time>"
@@ -126,12 +270,14 @@ public class CommandFactory {
 
         try {
             // Extract description and date/time details
-            String[] parts = args.split(" /from ", 2);
-            String description = parts[0].trim();
-            String[] dateTimes = parts[1].split(" /to ", 2);
+            String description = args.substring(0, fromIndex).trim();
+            String dateTimes = args.substring(fromIndex + " /from ".length());
+            int toIndex = dateTimes.indexOf(" /to ");
+            String start = toIndex < 0 ? "" : dateTimes.substring(0, toIndex);
+            String end = toIndex < 0 ? "" : dateTimes.substring(toIndex + " /to ".length());
 
             // Ensure start and end date/times are present
-            if (dateTimes.length < 2 || dateTimes[0].isBlank() || dateTimes[1].isBlank()) {
+            if (start.isBlank() || end.isBlank()) {
                 throw new MissingArgumentException(
                         TaskType.EVENT.name().toLowerCase(Locale.ROOT),
                         "event <description> /from <start date/time> /to <end date/time>"
@@ -140,7 +286,7 @@ public class CommandFactory {
 
             return new AddCommand(
                     CommandType.EVENT,
-                    new Event(description, dateTimes[0].trim(), dateTimes[1].trim())
+                    new Event(description, start.trim(), end.trim())
             );
         } catch (IllegalArgumentException e) {
             throw new InvalidDateFormatException(
@@ -153,20 +299,62 @@ public class CommandFactory {
 
     /**
      * Creates a {@link ListCommand}.
-     * The list helix.command is used to display all tasks currently in the helix.task list.
+     * The list helix.command displays all tasks in the helix.task list, or one page of them when given
+     * a page number ({@code list <page>}) or a range ({@code list --limit N --offset M}).
      *
-     * @param args the arguments for the {@code list} helix.command (should be empty)
-     * @return a {@link Command} instance for listing all tasks
-     * @throws TooManyArgumentsException if the helix.command contains unnecessary arguments
+     * @param args the arguments for the {@code list} helix.command (empty, a page number or range options)
+     * @return a {@link Command} instance for listing tasks
+     * @throws TooManyArgumentsException if the helix.command contains unexpected arguments
+     * @throws InvalidNumberFormatException if a page number, limit or offset is not a valid number
      */
     private static Command createListCommand(String args) throws HelixException {
-        if (!args.isEmpty()) {
-            throw new TooManyArgumentsException(
-                    CommandType.LIST.name().toLowerCase(Locale.ROOT),
-                    "list"
-            );
+        if (args.isEmpty()) {
+            return new ListCommand();
+        }
+        List<String> options = splitWords(args);
+        if (options.size() == 1) {
+            int page = parseListNumber(options.get(0), "The page number must be a positive integer.");
+            if (page == 0) {
+                throw new InvalidNumberFormatException("The page number must be a positive integer.");
+            }
+            long offset = (long) (page - 1) * ListCommand.PAGE_SIZE;
+            return new ListCommand((int) Math.min(offset, Integer.MAX_VALUE), ListCommand.PAGE_SIZE);
+        }
+
+        int offset = 0;
+        int limit = Integer.MAX_VALUE;
+        if (options.size() % 2 != 0 || options.size() > 4) {
+            throw new TooManyArgumentsException(CommandType.LIST.name().toLowerCase(Locale.ROOT), LIST_USAGE);
+        }
+        for (int i = 0; i < options.size(); i += 2) {
+            String value = options.get(i + 1);
+            switch (options.get(i)) {
+            case "--limit" -> limit = parseListNumber(value, "The limit must be a non-negative integer.");
+            case "--offset" -> offset = parseListNumber(value, "The offset must be a non-negative integer.");
+            default -> throw new TooManyArgumentsException(
+                    CommandType.LIST.name().toLowerCase(Locale.ROOT), LIST_USAGE);
+            }
+        }
+        return new ListCommand(offset, limit);
+    }
+
+    /**
+     * Parses a non-negative number given to the {@code list} command.
+     *
+     * @param number the number to parse
+     * @param errorMessage the message to show if the number is invalid
+     * @return the parsed number
+     * @throws InvalidNumberFormatException if the input is not a non-negative integer
+     */
+    private static int parseListNumber(String number, String errorMessage) throws InvalidNumberFormatException {
+        if (!isDigits(number)) {
+            throw new InvalidNumberFormatException(errorMessage);
+        }
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            throw new InvalidNumberFormatException(errorMessage);
         }
-        return new ListCommand();
     }
 
     /**
@@ -188,77 +376,135 @@ public class CommandFactory {
     }
 
     /**
-     * Validates and extracts a task number from the given command arguments.
+     * Parses the tasks a {@code mark}, {@code unmark} or {@code delete} command applies to.
      *
-     * <p>This method ensures that the input contains exactly one valid positive integer representing
-     * the task number. If the input is empty, contains non-numeric characters, or includes extra
-     * arguments, an appropriate exception is thrown.</p>
+     * <p>The selection is a single task number ({@code 3}), a task ID ({@code #42}), a range
+     * ({@code 3-40}), a comma-separated list of any of these ({@code 1,#42,9-12}), or {@code done} for
+     * every completed task. Task numbers and IDs are only checked against the task list when the
+     * command runs.</p>
      *
      * @param args the raw arguments provided by the user
      * @param commandName the name of the command being validated (e.g., "mark", "unmark", "delete")
-     * @return the zero-based task index parsed from the input
+     * @return the selected tasks
      * @throws MissingArgumentException if no task number is provided
-     * @throws TooManyArgumentsException if multiple arguments are provided instead of a single task number
-     * @throws InvalidNumberFormatException if the task number is not a valid positive integer
+     * @throws TooManyArgumentsException if the selection contains spaces
+     * @throws InvalidNumberFormatException if a task number is not a valid positive integer
+     *                                      or a range ends before it starts
      */
-    private static int validateTaskNumber(String args, String commandName) throws HelixException {
+    private static TaskSelection parseTaskSelection(String args, String commandName) throws HelixException {
+        String usage = commandName + " <task number>, " + commandName + " #<task id>, "
+                + commandName + " <first>-<last>, " + commandName + " <task number>,<task number>,... or "
+                + commandName + " done";
         if (args.isEmpty()) {
-            throw new MissingArgumentException(commandName, commandName + " <task number>");
+            throw new MissingArgumentException(commandName, usage);
+        }
+        if (args.indexOf(' ') >= 0) {
+            throw new TooManyArgumentsException(commandName, usage);
+        }
+        if (args.equalsIgnoreCase(COMPLETED_TASKS_SELECTOR)) {
+            return TaskSelection.completedTasks();
         }
 
-        String[] splitArgs = args.split(" ");
-
-        if (splitArgs.length > 1) {
-            throw new TooManyArgumentsException(commandName, commandName + " <task number>");
+        int partCount = 1;
+        for (int i = 0; i < args.length(); i++) {
+            if (args.charAt(i) == ',') {
+                partCount++;
+            }
         }
+        int[] rangeStarts = new int[partCount];
+        int[] rangeEnds = new int[partCount];
+        int[] taskIds = new int[partCount];
+        int rangeCount = 0;
+        int taskIdCount = 0;
+        int partStart = 0;
+        for (int i = 0; i < partCount; i++) {
+            int partEnd = args.indexOf(',', partStart);
+            if (partEnd < 0) {
+                partEnd = args.length();
+            }
+            if (partStart < partEnd && args.charAt(partStart) == TASK_ID_PREFIX) {
+                taskIds[taskIdCount++] = parseTaskNumber(args, partStart + 1, partEnd);
+                partStart = partEnd + 1;
+                continue;
+            }
+            int dash = args.indexOf('-', partStart);
+            int startEnd = dash >= 0 && dash < partEnd ? dash : partEnd;
+            rangeStarts[rangeCount] = parseTaskNumber(args, partStart, startEnd);
+            rangeEnds[rangeCount] = startEnd == partEnd
+                    ? rangeStarts[rangeCount]
+                    : parseTaskNumber(args, startEnd + 1, partEnd);
+            if (rangeEnds[rangeCount] < rangeStarts[rangeCount]) {
+                throw new InvalidNumberFormatException(
+                        "The range " + args.substring(partStart, partEnd) + " ends before it starts.");
+            }
+            rangeCount++;
+            partStart = partEnd + 1;
+        }
+        return TaskSelection.ofRanges(Arrays.copyOf(rangeStarts, rangeCount), Arrays.copyOf(rangeEnds, rangeCount),
+                Arrays.copyOf(taskIds, taskIdCount));
+    }
 
-        if (!splitArgs[0].matches("\\d+")) {
+    /**
+     * Parses a task number that is part of a selection.
+     *
+     * @param text the text holding the task number
+     * @param start the index of the first digit
+     * @param end the index after the last digit
+     * @return the task number
+     * @throws InvalidNumberFormatException if the text is not a valid positive integer
+     */
+    private static int parseTaskNumber(String text, int start, int end) throws InvalidNumberFormatException {
+        if (start >= end) {
             throw new InvalidNumberFormatException("The task number must be a positive integer.");
         }
-
-        return Integer.parseInt(splitArgs[0]) - 1;
+        long number = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new InvalidNumberFormatException("The task number must be a positive integer.");
+            }
+            number = Math.min(number * 10 + (c - '0'), Integer.MAX_VALUE);
+        }
+        return (int) number;
     }
 
     /**
      * Creates a {@link MarkCommand} after validating arguments.
      *
-     * @param args the arguments for the {@code mark} helix.command (helix.task number)
-     * @return a {@link Command} instance for marking a helix.task as done
+     * @param args the arguments for the {@code mark} helix.command (the tasks to mark)
+     * @return a {@link Command} instance for marking tasks as done
      * @throws MissingArgumentException if the helix.task number is missing
-     * @throws InvalidNumberFormatException if the helix.task number is not a valid positive integer
+     * @throws InvalidNumberFormatException if a helix.task number is not a valid positive integer
      * @throws TooManyArgumentsException if the helix.command contains too many arguments
      */
     private static Command createMarkCommand(String args) throws HelixException {
-        int taskNumber = validateTaskNumber(args, CommandType.MARK.name().toLowerCase(Locale.ROOT));
-        return new MarkCommand(taskNumber);
+        return new MarkCommand(parseTaskSelection(args, CommandType.MARK.name().toLowerCase(Locale.ROOT)));
     }
 
     /**
      * Creates an {@link UnmarkCommand} after validating arguments.
      *
-     * @param args the arguments for the {@code unmark} helix.command (helix.task number)
-     * @return a {@link Command} instance for marking a helix.task as not done
+     * @param args the arguments for the {@code unmark} helix.command (the tasks to unmark)
+     * @return a {@link Command} instance for marking tasks as not done
      * @throws MissingArgumentException if the helix.task number is missing
-     * @throws InvalidNumberFormatException if the helix.task number is not a valid positive integer
+     * @throws InvalidNumberFormatException if a helix.task number is not a valid positive integer
      * @throws TooManyArgumentsException if the helix.command contains too many arguments
      */
     private static Command createUnmarkCommand(String args) throws HelixException {
-        int taskNumber = validateTaskNumber(args, CommandType.UNMARK.name().toLowerCase(Locale.ROOT));
-        return new UnmarkCommand(taskNumber);
+        return new UnmarkCommand(parseTaskSelection(args, CommandType.UNMARK.name().toLowerCase(Locale.ROOT)));
     }
 
     /**
      * Creates a {@link DeleteCommand} after validating arguments.
      *
-     * @param args the arguments for the {@code delete} helix.command (helix.task number)
-     * @return a {@link Command} instance for deleting a helix.task
+     * @param args the arguments for the {@code delete} helix.command (the tasks to delete)
+     * @return a {@link Command} instance for deleting tasks
      * @throws MissingArgumentException if the helix.task number is missing
-     * @throws InvalidNumberFormatException if the helix.task number is not a valid positive integer
+     * @throws InvalidNumberFormatException if a helix.task number is not a valid positive integer
      * @throws TooManyArgumentsException if the helix.command contains too many arguments
      */
     private static Command createDeleteCommand(String args) throws HelixException {
-        int taskNumber = validateTaskNumber(args, CommandType.DELETE.name().toLowerCase(Locale.ROOT));
-        return new DeleteCommand(taskNumber);
+        return new DeleteCommand(parseTaskSelection(args, CommandType.DELETE.name().toLowerCase(Locale.ROOT)));
     }
 
     /**
@@ -275,10 +521,25 @@ public class CommandFactory {
         return new FindCommand(args);
     }
 
+    /**
+     * Creates a SearchCommand instance after validating arguments.
+     *
+     * @param args the arguments for the search command (the query)
+     * @return a SearchCommand instance
+     * @throws MissingArgumentException if the query is missing
+     */
+    private static Command createSearchCommand(String args) throws HelixException {
+        if (args.isEmpty()) {
+            throw new MissingArgumentException("search", "search <query>");
+        }
+        return new SearchCommand(args);
+    }
+
     /**
      * Creates an {@link UpdateCommand} after validating arguments.
      *
-     * @param args the arguments for the {@code update} command (task number, task type, new details)
+     * @param args the arguments for the {@code update} command (task number or {@code #}ID, task type,
+     *             new details)
      * @return an {@link UpdateCommand} instance
      * @throws MissingArgumentException if any required argument is missing
      * @throws InvalidNumberFormatException if the task number is not a valid positive integer
@@ -289,23 +550,188 @@ public class CommandFactory {
             throw new MissingArgumentException("update", "update <taskNum> <taskType> <newDetails>");
         }
 
-        String[] parts = args.split(" ", 3);
-        if (parts.length < 3) {
+        int numberEnd = args.indexOf(' ');
+        int typeEnd = numberEnd < 0 ? -1 : args.indexOf(' ', numberEnd + 1);
+        if (typeEnd < 0) {
             throw new MissingArgumentException("update", "update <taskNum> <taskType> <newDetails>");
         }
 
-        if (!parts[0].matches("\\d+")) {
+        String taskNumber = args.substring(0, numberEnd);
+        boolean isTaskId = taskNumber.charAt(0) == TASK_ID_PREFIX;
+        if (isTaskId) {
+            taskNumber = taskNumber.substring(1);
+        }
+        if (!isDigits(taskNumber)) {
             throw new InvalidNumberFormatException("Invalid task number. Must be a positive integer.");
         }
-        int taskIndex = Integer.parseInt(parts[0]) - 1;
+        int number = parseTaskNumber(taskNumber, 0, taskNumber.length());
+        TaskSelection selection = isTaskId ? TaskSelection.ofTaskId(number) : TaskSelection.of(number - 1);
 
-        TaskType taskType;
-        try {
-            taskType = TaskType.valueOf(parts[1].toUpperCase());
-        } catch (IllegalArgumentException e) {
+        TaskType taskType = findTaskType(args.substring(numberEnd + 1, typeEnd));
+        if (taskType == null) {
             throw new InvalidCommandException();
         }
-        String newDetails = parts[2];
-        return new UpdateCommand(taskIndex, taskType, newDetails);
+        String newDetails = args.substring(typeEnd + 1);
+        return new UpdateCommand(selection, taskType, newDetails);
+    }
+
+    /**
+     * Creates a {@link DueCommand} after validating arguments.
+     *
+     * @param args the arguments for the {@code due} command, either a window given as
+     *             {@code /from <start date/time> /to <end date/time>} or a cut-off given as
+     *             {@code /before <date/time>}
+     * @return a {@link DueCommand} instance
+     * @throws MissingArgumentException if either end of the window, or the cut-off, is missing
+     * @throws InvalidDateFormatException if a date format is invalid
+     * @throws InvalidCommandException if the window ends before it starts
+     */
+    private static Command createDueCommand(String args) throws HelixException {
+        if (args.startsWith("/before")) {
+            String beforeText = args.substring("/before".length()).trim();
+            if (beforeText.isEmpty()) {
+                throw new MissingArgumentException("due", "due /before <date/time>");
+            }
+            return new DueCommand(parseDateTime(beforeText));
+        }
+        LocalDateTime[] window = parseWindow(args, CommandType.DUE.name().toLowerCase(Locale.ROOT));
+        return new DueCommand(window[0], window[1]);
+    }
+
+    /**
+     * Creates an {@link OverlappingCommand} after validating arguments.
+     *
+     * @param args the arguments for the {@code overlapping} command, a window given as
+     *             {@code /from <start date/time> /to <end date/time>}
+     * @return an {@link OverlappingCommand} instance
+     * @throws MissingArgumentException if either end of the window is missing
+     * @throws InvalidDateFormatException if a date format is invalid
+     * @throws InvalidCommandException if the window ends before it starts
+     */
+    private static Command createOverlappingCommand(String args) throws HelixException {
+        LocalDateTime[] window = parseWindow(args, CommandType.OVERLAPPING.name().toLowerCase(Locale.ROOT));
+        return new OverlappingCommand(window[0], window[1]);
+    }
+
+    /**
+     * Creates a {@link BatchCommand} after validating arguments.
+     *
+     * @param args the arguments for the {@code batch} command (path of the batch file)
+     * @return a {@link BatchCommand} instance
+     * @throws MissingArgumentException if the file path is missing
+     * @throws InvalidCommandException if the file path is not a valid path
+     */
+    private static Command createBatchCommand(String args) throws HelixException {
+        if (args.isEmpty()) {
+            throw new MissingArgumentException("batch", "batch <file>");
+        }
+        try {
+            return new BatchCommand(Path.of(args));
+        } catch (InvalidPathException e) {
+            throw new InvalidCommandException("Invalid batch file path: " + args);
+        }
+    }
+
+    /**
+     * Parses a time window given as {@code /from <date/time> /to <date/time>}.
+     *
+     * @param args the arguments for the command
+     * @param commandName the name of the command being parsed (e.g., "due", "overlapping")
+     * @return the start and end of the window
+     * @throws MissingArgumentException if either end of the window is missing
+     * @throws InvalidDateFormatException if a date format is invalid
+     * @throws InvalidCommandException if the window ends before it starts
+     */
+    private static LocalDateTime[] parseWindow(String args, String commandName) throws HelixException {
+        String usage = commandName + " /from <start date/time> /to <end date/time>";
+        int toIndex = args.indexOf(" /to ");
+        if (!args.startsWith("/from ") || toIndex < 0) {
+            throw new MissingArgumentException(commandName, usage);
+        }
+        String fromText = args.substring("/from ".length(), Math.max(toIndex, "/from ".length())).trim();
+        String toText = args.substring(toIndex + " /to ".length()).trim();
+        if (fromText.isEmpty() || toText.isEmpty()) {
+            throw new MissingArgumentException(commandName, usage);
+        }
+        LocalDateTime from = parseDateTime(fromText);
+        LocalDateTime to = parseDateTime(toText);
+        if (to.isBefore(from)) {
+            throw new InvalidCommandException("The end of the period cannot be before its start.");
+        }
+        return new LocalDateTime[] {from, to};
+    }
+
+    /**
+     * Parses a date-time string given on the command line.
+     *
+     * @param dateTime the date-time string to parse
+     * @return the parsed date-time
+     * @throws InvalidDateFormatException if the input does not match any supported format
+     */
+    private static LocalDateTime parseDateTime(String dateTime) throws InvalidDateFormatException {
+        LocalDateTime parsed = DateTimeParser.parse(dateTime);
+        if (parsed != null) {
+            return parsed;
+        }
+        throw new InvalidDateFormatException(
+                "Invalid date format. Supported formats:\n"
+                    + "1. d/M/yyyy HHmm\n"
+                    + "2. yyyy-MM-dd HHmm."
+        );
+    }
+
+    /**
+     * Finds the task type with the given name, ignoring case.
+     *
+     * @param name the name of the task type
+     * @return the task type, or {@code null} if there is no task type with that name
+     */
+    private static TaskType findTaskType(String name) {
+        for (TaskType taskType : TaskType.values()) {
+            if (taskType.name().equalsIgnoreCase(name)) {
+                return taskType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether the text is a non-empty run of ASCII digits.
+     *
+     * @param text the text to check
+     * @return true if every character of the text is a digit, false otherwise
+     */
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the text into words separated by runs of whitespace.
+     *
+     * @param text the text to split, trimmed
+     * @return the words in the text
+     */
+    private static List<String> splitWords(String text) {
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordEnd = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isWordEnd && wordStart >= 0) {
+                words.add(text.substring(wordStart, i));
+                wordStart = -1;
+            } else if (!isWordEnd && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        return words;
     }
 }
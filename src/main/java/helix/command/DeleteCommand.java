@@ -1,5 +1,7 @@
 package helix.command;
 
+import java.util.List;
+
 import helix.enums.CommandType;
 import helix.exception.HelixException;
 import helix.exception.TaskIndexOutOfBoundsException;
@@ -8,10 +10,10 @@ import helix.task.TaskList;
 import helix.ui.ConsoleUi;
 
 /**
- * Represents a command to delete a task from the task list.
+ * Represents a command to delete one or more tasks from the task list.
  */
 public class DeleteCommand extends Command {
-    private final int taskIndex;
+    private final TaskSelection selection;
 
     /**
      * Constructs a DeleteCommand for the specified helix.task index.
@@ -19,26 +21,38 @@ public class DeleteCommand extends Command {
      * @param taskIndex the index of the helix.task to be deleted
      */
     public DeleteCommand(int taskIndex) {
+        this(TaskSelection.of(taskIndex));
+    }
+
+    /**
+     * Constructs a DeleteCommand for the specified selection of tasks.
+     *
+     * @param selection the tasks to be deleted
+     */
+    public DeleteCommand(TaskSelection selection) {
         super(CommandType.DELETE);
-        this.taskIndex = taskIndex;
+        this.selection = selection;
     }
 
     /**
-     * Executes the delete helix.command by removing the helix.task from the helix.task list.
+     * Executes the delete helix.command by removing the selected tasks from the helix.task list.
+     * Several tasks are removed together and saved once.
      *
-     * @param taskList the helix.task list from which the helix.task will be removed
+     * @param taskList the helix.task list from which the tasks will be removed
      * @param consoleUi the ConsoleUi component used to display messages to the user
-     * @throws TaskIndexOutOfBoundsException if the helix.task index is invalid
+     * @throws TaskIndexOutOfBoundsException if a selected task number is invalid
      */
     @Override
     public void execute(TaskList taskList, ConsoleUi consoleUi) throws HelixException {
-        if (taskIndex < 0 || taskIndex >= taskList.getTaskCount()) {
-            throw new TaskIndexOutOfBoundsException(taskIndex + 1, taskList.getTaskCount());
+        int[] taskIndices = selection.resolve(taskList);
+        if (!selection.isSingleTask()) {
+            List<Task> removedTasks = taskList.removeTasks(taskIndices, consoleUi);
+            consoleUi.showTasksRemoved(removedTasks.size(), taskList.getTaskCount());
+            return;
         }
 
         // Remove the helix.task and notify the user
-        Task task = taskList.removeTask(taskIndex, consoleUi);
+        Task task = taskList.removeTask(taskIndices[0], consoleUi);
         consoleUi.showTaskRemoved(task, taskList.getTaskCount());
-
     }
 }
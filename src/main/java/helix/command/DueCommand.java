@@ -0,0 +1,73 @@
+package helix.command;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import helix.enums.CommandType;
+import helix.task.Task;
+import helix.task.TaskList;
+import helix.ui.ConsoleUi;
+
+/**
+ * Represents a command to list the deadlines due within a time window, or the pending deadlines
+ * due before a given time.
+ */
+public class DueCommand extends Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final boolean isPendingOnly;
+
+    /**
+     * Constructs a DueCommand for the specified time window.
+     *
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, inclusive
+     */
+    public DueCommand(LocalDateTime from, LocalDateTime to) {
+        super(CommandType.DUE);
+        this.from = from;
+        this.to = to;
+        this.isPendingOnly = false;
+    }
+
+    /**
+     * Constructs a DueCommand for the pending deadlines due before the specified time.
+     *
+     * @param before the time the deadlines must be due before, exclusive
+     */
+    public DueCommand(LocalDateTime before) {
+        super(CommandType.DUE);
+        this.from = null;
+        this.to = before;
+        this.isPendingOnly = true;
+    }
+
+    /**
+     * Executes the due command by looking up the deadlines in the window through the
+     * task list's date index, or the pending deadlines through a scan of the task columns,
+     * and displaying them to the user.
+     *
+     * @param taskList the TaskList to search for deadlines
+     * @param consoleUi the ConsoleUi component used to display messages to the user
+     */
+    @Override
+    public void execute(TaskList taskList, ConsoleUi consoleUi) {
+        if (isPendingOnly) {
+            List<Task> pendingTasks = taskList.findPendingDeadlinesBefore(to);
+            consoleUi.showPendingDeadlines(pendingTasks);
+            return;
+        }
+        List<Task> dueTasks = taskList.findDeadlinesDue(from, to);
+        consoleUi.showDueTasks(dueTasks);
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
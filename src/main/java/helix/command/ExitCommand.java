@@ -18,13 +18,15 @@ public class ExitCommand extends Command {
     }
 
     /**
-     * Executes the exit helix.command, displaying a farewell message.
+     * Executes the exit helix.command, saving any pending changes, closing the task list
+     * and displaying a farewell message.
      *
-     * @param taskList the TaskList (unused in this implementation)
+     * @param taskList the TaskList whose pending changes are saved
      * @param consoleUi the ConsoleUi component used to display messages to the user
      */
     @Override
     public void execute(TaskList taskList, ConsoleUi consoleUi) {
+        taskList.close(consoleUi);
         consoleUi.showExit();
     }
 
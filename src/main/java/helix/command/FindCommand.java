@@ -1,7 +1,6 @@
 package helix.command;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import helix.enums.CommandType;
 import helix.task.Task;
@@ -38,14 +37,22 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Retrieves tasks that contain the specified keyword.
+     * Retrieves tasks that contain the specified keyword, using the task list's keyword index.
      *
      * @param taskList the {@code TaskList} containing the tasks to search
      * @return a list of tasks that match the search keyword
      */
     private List<Task> findMatchingTasks(TaskList taskList) {
-        return taskList.getTasks().stream()
-                .filter(task -> task.getDescription().toLowerCase().contains(keyword.toLowerCase()))
-                .collect(Collectors.toList());
+        return taskList.findTasks(keyword);
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -8,19 +8,36 @@ import helix.task.TaskList;
 import helix.ui.ConsoleUi;
 
 /**
- * Represents a command to list all tasks in the task list.
+ * Represents a command to list one page of the tasks in the task list.
  */
 public class ListCommand extends Command {
+    /** The number of tasks shown on each page by {@code list} and {@code list <page>}. */
+    public static final int PAGE_SIZE = 20;
+
+    private final int offset;
+    private final int limit;
 
     /**
-     * Constructs a ListCommand.
+     * Constructs a ListCommand that lists the first page of tasks.
      */
     public ListCommand() {
+        this(0, PAGE_SIZE);
+    }
+
+    /**
+     * Constructs a ListCommand that lists a range of tasks.
+     *
+     * @param offset the number of tasks to skip
+     * @param limit the maximum number of tasks to list
+     */
+    public ListCommand(int offset, int limit) {
         super(CommandType.LIST);
+        this.offset = offset;
+        this.limit = limit;
     }
 
     /**
-     * Executes the list helix.command, printing all tasks in the TaskList.
+     * Executes the list helix.command, printing the requested tasks in the TaskList.
      *
      * @param taskList the TaskList containing tasks to be listed
      * @param consoleUi the ConsoleUi component used to display messages to the user
@@ -29,6 +46,16 @@ public class ListCommand extends Command {
     public void execute(TaskList taskList, ConsoleUi consoleUi) {
         // get unmodifiable list of tasks and pass it to ConsoleUi
         List<Task> tasks = taskList.getTasks();
-        consoleUi.showTaskList(tasks);
+        consoleUi.showTaskList(tasks, offset, limit);
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
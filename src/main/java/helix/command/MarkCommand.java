@@ -1,5 +1,7 @@
 package helix.command;
 
+import java.util.List;
+
 import helix.enums.CommandType;
 import helix.enums.TaskStatus;
 import helix.exception.HelixException;
@@ -9,10 +11,10 @@ import helix.task.TaskList;
 import helix.ui.ConsoleUi;
 
 /**
- * Represents a command to mark a task as done in the task list.
+ * Represents a command to mark one or more tasks as done in the task list.
  */
 public class MarkCommand extends Command {
-    private final int taskIndex;
+    private final TaskSelection selection;
 
     /**
      * Constructs a MarkCommand for the specified helix.task index.
@@ -20,24 +22,39 @@ public class MarkCommand extends Command {
      * @param taskIndex the index of the helix.task to mark as done
      */
     public MarkCommand(int taskIndex) {
+        this(TaskSelection.of(taskIndex));
+    }
+
+    /**
+     * Constructs a MarkCommand for the specified selection of tasks.
+     *
+     * @param selection the tasks to mark as done
+     */
+    public MarkCommand(TaskSelection selection) {
         super(CommandType.MARK);
-        this.taskIndex = taskIndex;
+        this.selection = selection;
     }
 
     /**
-     * Executes the mark helix.command, marking the specified helix.task as done.
+     * Executes the mark helix.command, marking the selected tasks as done.
+     * Several tasks are marked together and saved once.
      *
-     * @param taskList the TaskList containing the helix.task to be updated
+     * @param taskList the TaskList containing the tasks to be updated
      * @param consoleUi the ConsoleUi component used to display messages to the user
+     * @throws TaskIndexOutOfBoundsException if a selected task number is invalid
      * @throws HelixException if the helix.task index is invalid
      */
     @Override
     public void execute(TaskList taskList, ConsoleUi consoleUi) throws HelixException {
-        if (taskIndex < 0 || taskIndex >= taskList.getTaskCount()) {
-            throw new TaskIndexOutOfBoundsException(taskIndex + 1, taskList.getTaskCount());
+        int[] taskIndices = selection.resolve(taskList);
+        if (!selection.isSingleTask()) {
+            List<Task> markedTasks = taskList.markTasksAsDone(taskIndices, consoleUi);
+            consoleUi.showTasksMarkedComplete(markedTasks.size(), taskIndices.length);
+            return;
         }
 
         // get the helix.task
+        int taskIndex = taskIndices[0];
         Task task = taskList.getTask(taskIndex);
 
         // handle helix.task status and notify via ConsoleUi
@@ -0,0 +1,52 @@
+package helix.command;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import helix.enums.CommandType;
+import helix.task.Task;
+import helix.task.TaskList;
+import helix.ui.ConsoleUi;
+
+/**
+ * Represents a command to list the events that overlap a time window.
+ */
+public class OverlappingCommand extends Command {
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    /**
+     * Constructs an OverlappingCommand for the specified time window.
+     *
+     * @param from the start of the window, inclusive
+     * @param to the end of the window, inclusive
+     */
+    public OverlappingCommand(LocalDateTime from, LocalDateTime to) {
+        super(CommandType.OVERLAPPING);
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Executes the overlapping command by looking up the events in the window through the
+     * task list's date index and displaying them to the user.
+     *
+     * @param taskList the TaskList to search for events
+     * @param consoleUi the ConsoleUi component used to display messages to the user
+     */
+    @Override
+    public void execute(TaskList taskList, ConsoleUi consoleUi) {
+        List<Task> overlappingEvents = taskList.findEventsOverlapping(from, to);
+        consoleUi.showOverlappingEvents(overlappingEvents);
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package helix.command;
+
+import java.util.List;
+
+import helix.enums.CommandType;
+import helix.task.Task;
+import helix.task.TaskList;
+import helix.ui.ConsoleUi;
+
+/**
+ * Represents a command to list the tasks whose descriptions best match a query, allowing for typos.
+ */
+public class SearchCommand extends Command {
+    /**
+     * The number of results shown for a search.
+     */
+    public static final int RESULT_LIMIT = 10;
+
+    private final String query;
+
+    /**
+     * Constructs a SearchCommand with the specified query.
+     *
+     * @param query the text to search for in task descriptions
+     */
+    public SearchCommand(String query) {
+        super(CommandType.SEARCH);
+        this.query = query;
+    }
+
+    /**
+     * Executes the search command by ranking the tasks against the query through the task list's
+     * keyword index and displaying the best matches to the user.
+     *
+     * @param taskList the TaskList to search
+     * @param consoleUi the ConsoleUi component used to display messages to the user
+     */
+    @Override
+    public void execute(TaskList taskList, ConsoleUi consoleUi) {
+        List<Task> bestMatches = taskList.searchTasks(query, RESULT_LIMIT);
+        consoleUi.showSearchResults(bestMatches);
+    }
+
+    /**
+     * Indicates that this command only reads the task list.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package helix.command;
+
+import java.util.BitSet;
+import java.util.List;
+
+import helix.enums.TaskStatus;
+import helix.exception.TaskIndexOutOfBoundsException;
+import helix.exception.TaskNotFoundException;
+import helix.task.Task;
+import helix.task.TaskList;
+
+/**
+ * Represents the tasks a {@code mark}, {@code unmark} or {@code delete} command applies to.
+ *
+ * <p>
+ * A selection is either a set of task number ranges and task IDs, such as {@code 3-40} or {@code 1,5,#9},
+ * or every completed task ({@code done}). Task numbers are 1-based positions, while task IDs are the stable
+ * IDs of tasks. Both are only checked against the task list when the selection is resolved, so that a
+ * selection can be parsed before the command runs.
+ * </p>
+ */
+public final class TaskSelection {
+    private final int[] rangeStarts;
+    private final int[] rangeEnds;
+    private final int[] taskIds;
+    private final boolean isCompletedTasks;
+
+    /**
+     * Constructs a TaskSelection.
+     *
+     * @param rangeStarts the first task number of each range
+     * @param rangeEnds the last task number of each range, inclusive
+     * @param taskIds the stable IDs of individually selected tasks
+     * @param isCompletedTasks whether the selection is every completed task instead of the ranges and IDs
+     */
+    private TaskSelection(int[] rangeStarts, int[] rangeEnds, int[] taskIds, boolean isCompletedTasks) {
+        this.rangeStarts = rangeStarts;
+        this.rangeEnds = rangeEnds;
+        this.taskIds = taskIds;
+        this.isCompletedTasks = isCompletedTasks;
+    }
+
+    /**
+     * Creates a selection of a single task.
+     *
+     * @param taskIndex the index of the task (0-based index)
+     * @return the selection
+     */
+    public static TaskSelection of(int taskIndex) {
+        return new TaskSelection(new int[] {taskIndex + 1}, new int[] {taskIndex + 1}, new int[0], false);
+    }
+
+    /**
+     * Creates a selection of a single task by its stable ID.
+     *
+     * @param taskId the ID of the task
+     * @return the selection
+     */
+    public static TaskSelection ofTaskId(int taskId) {
+        return new TaskSelection(new int[0], new int[0], new int[] {taskId}, false);
+    }
+
+    /**
+     * Creates a selection of ranges of task numbers and of tasks by stable ID.
+     *
+     * @param rangeStarts the first task number of each range (1-based)
+     * @param rangeEnds the last task number of each range, inclusive, no smaller than its start
+     * @param taskIds the IDs of individually selected tasks
+     * @return the selection
+     */
+    public static TaskSelection ofRanges(int[] rangeStarts, int[] rangeEnds, int[] taskIds) {
+        assert rangeStarts.length == rangeEnds.length : "Every range should have a start and an end!";
+        return new TaskSelection(rangeStarts.clone(), rangeEnds.clone(), taskIds.clone(), false);
+    }
+
+    /**
+     * Creates a selection of every completed task.
+     *
+     * @return the selection
+     */
+    public static TaskSelection completedTasks() {
+        return new TaskSelection(new int[0], new int[0], new int[0], true);
+    }
+
+    /**
+     * Checks whether the selection names exactly one task, by number or by ID.
+     *
+     * @return true if the selection is a single task, false otherwise
+     */
+    public boolean isSingleTask() {
+        if (isCompletedTasks) {
+            return false;
+        }
+        boolean isSingleNumber = rangeStarts.length == 1 && rangeStarts[0] == rangeEnds[0];
+        return rangeStarts.length + taskIds.length == 1 && (taskIds.length == 1 || isSingleNumber);
+    }
+
+    /**
+     * Resolves the selection against a task list. Must be called while the task list cannot change,
+     * such as from within a command.
+     *
+     * @param taskList the task list to resolve against
+     * @return the distinct indices of the selected tasks (0-based), in ascending order
+     * @throws TaskIndexOutOfBoundsException if a task number does not exist in the task list
+     * @throws TaskNotFoundException if no task has one of the IDs
+     */
+    public int[] resolve(TaskList taskList) throws TaskIndexOutOfBoundsException, TaskNotFoundException {
+        int taskCount = taskList.getTaskCount();
+        BitSet selected = new BitSet(taskCount);
+        if (isCompletedTasks) {
+            List<Task> tasks = taskList.getTasks();
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i).getTaskStatus() == TaskStatus.COMPLETED) {
+                    selected.set(i);
+                }
+            }
+            return selected.stream().toArray();
+        }
+        for (int i = 0; i < rangeStarts.length; i++) {
+            if (rangeStarts[i] < 1 || rangeStarts[i] > taskCount) {
+                throw new TaskIndexOutOfBoundsException(rangeStarts[i], taskCount);
+            }
+            if (rangeEnds[i] > taskCount) {
+                throw new TaskIndexOutOfBoundsException(rangeEnds[i], taskCount);
+            }
+            selected.set(rangeStarts[i] - 1, rangeEnds[i]);
+        }
+        for (int taskId : taskIds) {
+            int taskIndex = taskList.findTaskIndexById(taskId);
+            if (taskIndex < 0) {
+                throw new TaskNotFoundException(taskId);
+            }
+            selected.set(taskIndex);
+        }
+        return selected.stream().toArray();
+    }
+}
@@ -1,5 +1,7 @@
 package helix.command;
 
+import java.util.List;
+
 import helix.enums.CommandType;
 import helix.enums.TaskStatus;
 import helix.exception.HelixException;
@@ -9,35 +11,50 @@ import helix.task.TaskList;
 import helix.ui.ConsoleUi;
 
 /**
- * Represents a command to mark a task as not done in the task list.
+ * Represents a command to mark one or more tasks as not done in the task list.
  */
 public class UnmarkCommand extends Command {
-    private final int taskIndex;
+    private final TaskSelection selection;
 
     /**
      * Constructs an UnmarkCommand for the specified helix.task index.
      *
-     * @param taskIndex the index of the helix.task to unmark as not done
+     * @param taskIndex the index of the helix.task to mark as not done
      */
     public UnmarkCommand(int taskIndex) {
+        this(TaskSelection.of(taskIndex));
+    }
+
+    /**
+     * Constructs an UnmarkCommand for the specified selection of tasks.
+     *
+     * @param selection the tasks to mark as not done
+     */
+    public UnmarkCommand(TaskSelection selection) {
         super(CommandType.UNMARK);
-        this.taskIndex = taskIndex;
+        this.selection = selection;
     }
 
     /**
-     * Executes the unmark helix.command, marking the specified helix.task as not done.
+     * Executes the unmark helix.command, marking the selected tasks as not done.
+     * Several tasks are marked together and saved once.
      *
-     * @param taskList the TaskList containing the helix.task to be updated
+     * @param taskList the TaskList containing the tasks to be updated
      * @param consoleUi the ConsoleUi component used to display messages to the user
+     * @throws TaskIndexOutOfBoundsException if a selected task number is invalid
      * @throws HelixException if the helix.task index is invalid
      */
     @Override
     public void execute(TaskList taskList, ConsoleUi consoleUi) throws HelixException {
-        if (taskIndex < 0 || taskIndex >= taskList.getTaskCount()) {
-            throw new TaskIndexOutOfBoundsException(taskIndex + 1, taskList.getTaskCount());
+        int[] taskIndices = selection.resolve(taskList);
+        if (!selection.isSingleTask()) {
+            List<Task> unmarkedTasks = taskList.markTasksAsUndone(taskIndices, consoleUi);
+            consoleUi.showTasksMarkedPending(unmarkedTasks.size(), taskIndices.length);
+            return;
         }
 
         // get the helix.task
+        int taskIndex = taskIndices[0];
         Task task = taskList.getTask(taskIndex);
 
         // handle helix.task status and notify via ConsoleUi
@@ -5,7 +5,7 @@ import helix.enums.TaskType;
 import helix.exception.HelixException;
 import helix.exception.InvalidCommandException;
 import helix.exception.InvalidTaskTypeException;
-import helix.exception.TaskIndexOutOfBoundsException;
+import helix.exception.TaskNotFoundException;
 import helix.task.Task;
 import helix.task.TaskList;
 import helix.ui.ConsoleUi;
@@ -14,7 +14,7 @@ import helix.ui.ConsoleUi;
  * Handles the update of an existing task.
  */
 public class UpdateCommand extends Command {
-    private final int taskIndex;
+    private final TaskSelection selection;
     private final TaskType expectedType;
     private final String newDetails;
 
@@ -26,8 +26,20 @@ public class UpdateCommand extends Command {
      * @param newDetails   The new details for the task.
      */
     public UpdateCommand(int taskIndex, TaskType expectedType, String newDetails) {
+        this(TaskSelection.of(taskIndex), expectedType, newDetails);
+    }
+
+    /**
+     * Constructs an UpdateCommand for a task selected by number or by stable ID.
+     *
+     * @param selection    The task to be updated, which must be a single task.
+     * @param expectedType The expected task type.
+     * @param newDetails   The new details for the task.
+     */
+    public UpdateCommand(TaskSelection selection, TaskType expectedType, String newDetails) {
         super(getCommandTypeFromTaskType(expectedType));
-        this.taskIndex = taskIndex;
+        assert selection.isSingleTask() : "Only one task can be updated at a time!";
+        this.selection = selection;
         this.expectedType = expectedType;
         this.newDetails = newDetails;
     }
@@ -53,11 +65,12 @@ public class UpdateCommand extends Command {
      * @param taskList The TaskList containing the helix.task to be updated.
      * @param consoleUi The ConsoleUi component used to display messages to the user.
      * @throws HelixException If the task index is invalid or the task type does not match.
+     * @throws TaskNotFoundException If no task has the given ID.
      * @throws InvalidCommandException If the new details are in an invalid format.
      */
     @Override
     public void execute(TaskList taskList, ConsoleUi consoleUi) throws HelixException {
-        validateTaskIndex(taskList);
+        int taskIndex = selection.resolve(taskList)[0];
         Task task = taskList.getTask(taskIndex);
         validateTaskType(task);
 
@@ -67,18 +80,6 @@ public class UpdateCommand extends Command {
         consoleUi.showTaskUpdated(task);
     }
 
-    /**
-     * Validates that the task index is within the valid range.
-     *
-     * @param taskList The {@code TaskList} containing the tasks.
-     * @throws TaskIndexOutOfBoundsException if the index is invalid.
-     */
-    private void validateTaskIndex(TaskList taskList) throws TaskIndexOutOfBoundsException {
-        if (taskIndex < 0 || taskIndex >= taskList.getTaskCount()) {
-            throw new TaskIndexOutOfBoundsException(taskIndex + 1, taskList.getTaskCount());
-        }
-    }
-
     /**
      * Validates that the task type matches the expected type.
      *
@@ -117,13 +118,13 @@ public class UpdateCommand extends Command {
      * @throws InvalidCommandException if the format is invalid.
      */
     private String parseDeadlineDetails(String details) throws InvalidCommandException {
-        String[] deadlineParts = details.split(" /by ", 2);
-        if (deadlineParts.length != 2) {
+        int byIndex = details.indexOf(" /by ");
+        if (byIndex < 0) {
             throw new InvalidCommandException(
                     "Invalid format. Use: update <taskNum> deadline <description> /by <due date>"
             );
         }
-        return deadlineParts[0] + " - " + deadlineParts[1];
+        return details.substring(0, byIndex) + " - " + details.substring(byIndex + " /by ".length());
     }
 
     /**
@@ -134,12 +135,16 @@ public class UpdateCommand extends Command {
      * @throws InvalidCommandException if the format is invalid.
      */
     private String parseEventDetails(String details) throws InvalidCommandException {
-        String[] eventParts = details.split(" /from | /to ");
-        if (eventParts.length != 3) {
+        int fromIndex = details.indexOf(" /from ");
+        int toIndex = fromIndex < 0 ? -1 : details.indexOf(" /to ", fromIndex + " /from ".length());
+        if (toIndex < 0 || details.indexOf(" /from ", fromIndex + 1) >= 0
+                || details.indexOf(" /to ", toIndex + 1) >= 0) {
             throw new InvalidCommandException(
                     "Invalid format. Use: update <taskNum> event <description> /from <start> /to <end>"
             );
         }
-        return eventParts[0] + " - " + eventParts[1] + " - " + eventParts[2];
+        return details.substring(0, fromIndex) + " - "
+                + details.substring(fromIndex + " /from ".length(), toIndex) + " - "
+                + details.substring(toIndex + " /to ".length());
     }
 }
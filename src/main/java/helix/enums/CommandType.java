@@ -1,5 +1,7 @@
 package helix.enums;
 
+import java.util.List;
+
 /**
  * Represents the types of commands that can be issued.
  */
@@ -7,11 +9,35 @@ public enum CommandType {
     TODO,
     DEADLINE,
     EVENT,
-    LIST,
+    LIST("ls"),
     MARK,
     UNMARK,
-    DELETE,
-    BYE,
+    DELETE("rm"),
+    BYE("exit", "quit"),
     FIND,
-    UPDATE;
+    SEARCH,
+    UPDATE("edit"),
+    DUE,
+    OVERLAPPING,
+    BATCH;
+
+    private final List<String> aliases;
+
+    /**
+     * Constructs a CommandType with the specified aliases.
+     *
+     * @param aliases other names the command can be entered as, in lower case
+     */
+    CommandType(String... aliases) {
+        this.aliases = List.of(aliases);
+    }
+
+    /**
+     * Retrieves the other names the command can be entered as.
+     *
+     * @return the aliases of the command, in lower case
+     */
+    public List<String> getAliases() {
+        return aliases;
+    }
 }
@@ -0,0 +1,43 @@
+package helix.enums;
+
+import java.util.Locale;
+
+/**
+ * Represents how strongly the storage layer protects the task file against crashes while saving.
+ */
+public enum Durability {
+    /**
+     * Overwrites the task file in place. Fastest, but a crash mid-write can leave the file truncated.
+     */
+    NONE,
+
+    /**
+     * Writes to a temporary file and renames it over the task file, so a crashed process never leaves
+     * a half-written file behind. Recent saves may still be lost if the machine itself loses power.
+     */
+    ATOMIC,
+
+    /**
+     * Like {@link #ATOMIC}, but also forces the data and the rename to disk before a save returns,
+     * so a completed save survives power loss.
+     */
+    SYNC;
+
+    /**
+     * Resolves a durability level from its name, ignoring case.
+     * Falls back to {@link #SYNC} if the name is missing or not recognised.
+     *
+     * @param name the name of the durability level, e.g. "atomic"
+     * @return the matching durability level, or {@code SYNC} if none matches
+     */
+    public static Durability fromName(String name) {
+        if (name == null) {
+            return SYNC;
+        }
+        try {
+            return Durability.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return SYNC;
+        }
+    }
+}
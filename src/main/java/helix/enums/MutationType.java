@@ -0,0 +1,12 @@
+package helix.enums;
+
+/**
+ * Represents the kinds of changes that can be applied to a task list.
+ */
+public enum MutationType {
+    ADD,
+    REMOVE,
+    MARK,
+    UNMARK,
+    UPDATE;
+}
@@ -18,7 +18,8 @@ public enum OutputSymbol {
     SPARKLE("✨"),
     CHECK("✅"),
     CROSS("❌"),
-    FOLDER("🗂️");
+    FOLDER("🗂️"),
+    TAG("🏷️");
 
     private final String symbol;
 
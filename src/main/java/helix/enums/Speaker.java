@@ -0,0 +1,9 @@
+package helix.enums;
+
+/**
+ * Represents who a message in the conversation comes from.
+ */
+public enum Speaker {
+    USER,
+    HELIX;
+}
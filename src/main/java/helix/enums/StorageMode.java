@@ -0,0 +1,52 @@
+package helix.enums;
+
+import java.util.Locale;
+
+/**
+ * Represents the persistence strategies supported by the storage layer.
+ */
+public enum StorageMode {
+    /**
+     * Rewrites the whole task file after every change.
+     */
+    TEXT,
+
+    /**
+     * Appends one record per change to a journal and periodically compacts it into the task file.
+     */
+    JOURNAL,
+
+    /**
+     * Stores a binary, column-oriented snapshot that loads without parsing text.
+     */
+    BINARY,
+
+    /**
+     * Reads the task file up front but only parses each task when it is first accessed.
+     */
+    LAZY,
+
+    /**
+     * Keeps the plain text task file, but patches changed tasks in place and appends new ones
+     * instead of rewriting the whole file.
+     */
+    INCREMENTAL;
+
+    /**
+     * Resolves a storage mode from its name, ignoring case.
+     * Falls back to {@link #TEXT} if the name is missing or not recognised.
+     *
+     * @param name the name of the storage mode, e.g. "journal"
+     * @return the matching storage mode, or {@code TEXT} if none matches
+     */
+    public static StorageMode fromName(String name) {
+        if (name == null) {
+            return TEXT;
+        }
+        try {
+            return StorageMode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return TEXT;
+        }
+    }
+}
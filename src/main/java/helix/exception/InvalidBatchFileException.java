@@ -0,0 +1,16 @@
+package helix.exception;
+
+/**
+ * Signals that a batch file could not be read or contains commands that cannot be run.
+ */
+public class InvalidBatchFileException extends HelixException {
+
+    /**
+     * Constructs an InvalidBatchFileException with a detailed error message.
+     *
+     * @param message the error message
+     */
+    public InvalidBatchFileException(String message) {
+        super(message);
+    }
+}
@@ -10,7 +10,8 @@ public class InvalidCommandException extends HelixException {
      * prompting the user to check the list of valid commands.
      */
     public InvalidCommandException() {
-        super("Invalid command. Valid commands: TODO, DEADLINE, EVENT, LIST, MARK, UNMARK, DELETE, BYE, FIND, UPDATE.");
+        super("Invalid command. Valid commands: TODO, DEADLINE, EVENT, LIST, MARK, UNMARK, DELETE, BYE, FIND, SEARCH, "
+                + "UPDATE, DUE, OVERLAPPING, BATCH.");
     }
 
     /**
@@ -0,0 +1,16 @@
+package helix.exception;
+
+/**
+ * Signals that no task has the stable ID that was given.
+ */
+public class TaskNotFoundException extends HelixException {
+
+    /**
+     * Constructs a TaskNotFoundException for the specified ID.
+     *
+     * @param taskId the ID that no task has
+     */
+    public TaskNotFoundException(int taskId) {
+        super("No task has the ID #" + taskId + ". It may have been deleted.");
+    }
+}
@@ -0,0 +1,153 @@
+package helix.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Holds the state of one client connected to the {@link HelixServer}.
+ *
+ * <p>
+ * Only the server's selector thread uses a connection, so it needs no synchronization. Commands are
+ * queued as complete lines arrive and run one at a time, so each client receives its responses in the
+ * order it sent the commands.
+ * </p>
+ */
+class ClientConnection {
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final Deque<String> pendingCommands = new ArrayDeque<>();
+    private final Deque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+    private boolean isExecuting;
+    private boolean isClosing;
+
+    /**
+     * Constructs a ClientConnection for a registered channel.
+     *
+     * @param channel the client's channel
+     * @param key the channel's registration with the server's selector
+     */
+    ClientConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    /**
+     * Reads what the client has sent and queues every complete, non-blank line as a command.
+     * Carriage returns before line feeds are dropped.
+     *
+     * @return false if the client has closed its side of the connection, true otherwise
+     * @throws IOException if reading fails or a line exceeds the maximum length
+     */
+    boolean readCommands() throws IOException {
+        int bytesRead = channel.read(readBuffer);
+        if (bytesRead < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            byte b = readBuffer.get();
+            if (b != '\n') {
+                partialLine.write(b);
+                if (partialLine.size() > MAX_LINE_LENGTH) {
+                    throw new IOException("Command line too long");
+                }
+                continue;
+            }
+            String line = partialLine.toString(StandardCharsets.UTF_8);
+            partialLine.reset();
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (!line.isBlank() && !isClosing) {
+                pendingCommands.add(line);
+            }
+        }
+        readBuffer.clear();
+        return true;
+    }
+
+    /**
+     * Takes the next command to run, if no command of this client is running already.
+     * The connection counts as executing until {@link #finishCommand(String, boolean)} is called.
+     *
+     * @return the next command, or null if there is none or a command is still running
+     */
+    String takeNextCommand() {
+        if (isExecuting || pendingCommands.isEmpty()) {
+            return null;
+        }
+        isExecuting = true;
+        return pendingCommands.poll();
+    }
+
+    /**
+     * Queues the response to the running command. Each line of the response is sent in turn, with lines
+     * starting with a dot escaped by a second dot, followed by a line holding a single dot.
+     *
+     * @param response the response text
+     * @param isLast whether the connection should close once the response has been sent;
+     *               ignored if the connection has already been closed
+     */
+    void finishCommand(String response, boolean isLast) {
+        isExecuting = false;
+        if (!key.isValid()) {
+            return;
+        }
+        StringBuilder framed = new StringBuilder(response.length() + 8);
+        for (String line : response.split("\\R", -1)) {
+            if (line.startsWith(".")) {
+                framed.append('.');
+            }
+            framed.append(line).append('\n');
+        }
+        framed.append(".\n");
+        pendingWrites.add(ByteBuffer.wrap(framed.toString().getBytes(StandardCharsets.UTF_8)));
+        if (isLast) {
+            isClosing = true;
+            pendingCommands.clear();
+        }
+        key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Writes queued responses until they are all sent or the channel cannot take more.
+     *
+     * @return false if the connection should now be closed, true otherwise
+     * @throws IOException if writing fails
+     */
+    boolean writeResponses() throws IOException {
+        while (!pendingWrites.isEmpty()) {
+            ByteBuffer buffer = pendingWrites.peek();
+            channel.write(buffer);
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            pendingWrites.poll();
+        }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        return !isClosing;
+    }
+
+    /**
+     * Closes the connection.
+     */
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The connection is being discarded anyway
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package helix.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves Helix commands to clients connected over a local TCP socket.
+ *
+ * <p>
+ * Clients send one command per line and receive the response lines followed by a line holding a single dot;
+ * response lines that start with a dot have a second dot added. A single thread multiplexes every connection
+ * with a {@link Selector}, while commands run on a pool of worker threads, so many clients can be served at
+ * once against one task list. Commands from the same client run one at a time and are answered in order.
+ * Commands that the server's filter rejects are answered with an error without being run.
+ * Sending a command that the server's exit check recognises, such as {@code bye} or {@code exit}, closes the
+ * connection once its response has been sent.
+ * </p>
+ */
+public class HelixServer implements Closeable {
+    private static final String REJECTED_COMMAND_RESPONSE = "This command cannot be run over the server.";
+
+    private final UnaryOperator<String> commandHandler;
+    private final Predicate<String> commandFilter;
+    private final Predicate<String> exitCheck;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean isRunning = true;
+
+    /**
+     * Constructs a HelixServer listening on the loopback interface that only runs the commands its filter allows.
+     *
+     * @param commandHandler the function that executes a command and returns its response,
+     *                       which must be safe to call from several threads at once
+     * @param commandFilter the check that decides whether a command may be run for a client
+     * @param exitCheck the check that decides whether a command ends the client's session
+     * @param port the port to listen on, or 0 to pick a free port
+     * @param workerCount the number of threads that run commands
+     * @throws IOException if the port could not be opened
+     */
+    public HelixServer(UnaryOperator<String> commandHandler, Predicate<String> commandFilter,
+            Predicate<String> exitCheck, int port, int workerCount) throws IOException {
+        this.commandHandler = commandHandler;
+        this.commandFilter = commandFilter;
+        this.exitCheck = exitCheck;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "helix-server-worker-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retrieves the port the server is listening on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Accepts connections and serves commands until {@link #close()} is called.
+     * Every connection is closed when the server stops.
+     *
+     * @throws IOException if the selector fails
+     */
+    public void run() throws IOException {
+        try {
+            while (isRunning) {
+                selector.select();
+                runSelectorTasks();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handleKey(key);
+                }
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof ClientConnection connection) {
+                    connection.close();
+                }
+            }
+            workers.shutdownNow();
+            serverChannel.close();
+            selector.close();
+        }
+    }
+
+    /**
+     * Stops the server. Safe to call from any thread.
+     */
+    @Override
+    public void close() {
+        isRunning = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Handles a channel that is ready, closing the client's connection if it fails.
+     *
+     * @param key the selected key
+     */
+    private void handleKey(SelectionKey key) {
+        if (!key.isValid()) {
+            return;
+        }
+        if (key.isAcceptable()) {
+            acceptConnection();
+            return;
+        }
+        ClientConnection connection = (ClientConnection) key.attachment();
+        try {
+            if (key.isReadable() && !connection.readCommands()) {
+                connection.close();
+                return;
+            }
+            if (key.isValid() && key.isWritable() && !connection.writeResponses()) {
+                connection.close();
+                return;
+            }
+            dispatchNextCommand(connection);
+        } catch (IOException e) {
+            connection.close();
+        }
+    }
+
+    /**
+     * Accepts a pending connection, if there is one.
+     */
+    private void acceptConnection() {
+        try {
+            SocketChannel channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+            key.attach(new ClientConnection(channel, key));
+        } catch (IOException e) {
+            // A failed accept only affects the client that was connecting
+        }
+    }
+
+    /**
+     * Hands the client's next command to a worker, unless one of its commands is already running.
+     * The response is passed back to the selector thread, which sends it and dispatches the next command.
+     *
+     * @param connection the client connection
+     */
+    private void dispatchNextCommand(ClientConnection connection) {
+        String command = connection.takeNextCommand();
+        if (command == null) {
+            return;
+        }
+        workers.execute(() -> {
+            String response = executeCommand(command);
+            boolean isExit = commandFilter.test(command) && exitCheck.test(command);
+            selectorTasks.add(() -> {
+                connection.finishCommand(response, isExit);
+                dispatchNextCommand(connection);
+            });
+            selector.wakeup();
+        });
+    }
+
+    /**
+     * Executes a command if the filter allows it, turning any unexpected failure into an error response
+     * so that the client always receives an answer.
+     *
+     * @param command the command to execute
+     * @return the response to send
+     */
+    private String executeCommand(String command) {
+        try {
+            if (!commandFilter.test(command)) {
+                return REJECTED_COMMAND_RESPONSE;
+            }
+            return commandHandler.apply(command);
+        } catch (RuntimeException e) {
+            return "Unexpected error: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Runs the work that worker threads have passed back to the selector thread.
+     */
+    private void runSelectorTasks() {
+        Runnable task;
+        while ((task = selectorTasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
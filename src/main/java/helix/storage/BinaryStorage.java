@@ -0,0 +1,314 @@
+package helix.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import helix.enums.Durability;
+import helix.enums.TaskStatus;
+import helix.enums.TaskType;
+import helix.task.Deadline;
+import helix.task.Event;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Persists tasks in a compact binary, column-oriented snapshot that is loaded through a memory-mapped buffer.
+ *
+ * <p>
+ * Loading the plain text file means splitting every line and re-parsing human-readable dates. The binary
+ * snapshot instead stores each attribute as its own column, so loading is a sequence of fixed-width reads:
+ * </p>
+ * <pre>
+ * int    magic ("HLXB")
+ * short  version
+ * int    task count (n)
+ * int[n]   task IDs (0 for tasks without one)
+ * byte[n]  task types (ordinal of {@link TaskType})
+ * byte[n]  task statuses (ordinal of {@link TaskStatus})
+ * long[n]  start date as UTC epoch seconds (deadline due date or event start, 0 for todos)
+ * long[n]  end date as UTC epoch seconds (event end, 0 otherwise)
+ * n x (int length, byte[length])  UTF-8 descriptions
+ * int    CRC-32 of every preceding byte
+ * </pre>
+ *
+ * <p>
+ * The snapshot is kept next to the text file with a {@code .bin} extension. The text file remains the
+ * import and export path: if no snapshot exists yet, tasks are imported from the text file on load.
+ * </p>
+ */
+public class BinaryStorage extends Storage {
+    private static final int MAGIC = 0x484C5842;
+    private static final short VERSION = 1;
+    private static final String BINARY_EXTENSION = ".bin";
+
+    private final Path binaryPath;
+
+    /**
+     * Constructs a {@code BinaryStorage} whose snapshot sits next to the given text file.
+     *
+     * @param filePath the path of the text file used for import and export
+     */
+    public BinaryStorage(String filePath) {
+        this(filePath, Durability.SYNC);
+    }
+
+    /**
+     * Constructs a {@code BinaryStorage} with the given durability, whose snapshot sits next to the given text file.
+     *
+     * @param filePath   the path of the text file used for import and export
+     * @param durability how strongly saves are protected against crashes
+     */
+    public BinaryStorage(String filePath, Durability durability) {
+        super(filePath, durability);
+        this.binaryPath = toBinaryPath(getFilePath());
+    }
+
+    /**
+     * Loads tasks from the binary snapshot, or imports them from the text file if there is no snapshot yet.
+     *
+     * @return a {@link List} of {@link Task} objects loaded from storage
+     * @throws IOException if there is an error reading the files or the snapshot is malformed
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        if (!Files.exists(binaryPath)) {
+            return importText();
+        }
+        return readSnapshot();
+    }
+
+    /**
+     * Saves the tasks as a binary snapshot.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to save
+     * @throws IOException if there is an error writing the file
+     */
+    @Override
+    public void save(List<Task> taskList) throws IOException {
+        writeSnapshot(taskList);
+    }
+
+    /**
+     * Reads tasks from the human-readable text file.
+     *
+     * @return a {@link List} of {@link Task} objects loaded from the text file
+     * @throws IOException if there is an error reading the file
+     */
+    public List<Task> importText() throws IOException {
+        return super.load();
+    }
+
+    /**
+     * Writes tasks to the human-readable text file. Used by the {@code --export} option to switch
+     * back from binary mode without losing changes.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to export
+     * @throws IOException if there is an error writing the file
+     */
+    public void exportText(List<Task> taskList) throws IOException {
+        ensureFileExists();
+        super.save(taskList);
+    }
+
+    /**
+     * Reads the binary snapshot through a read-only memory mapping, verifying its checksum first.
+     *
+     * @return the tasks stored in the snapshot
+     * @throws IOException if there is an error reading the file or the snapshot is malformed or damaged
+     */
+    private List<Task> readSnapshot() throws IOException {
+        try (FileChannel channel = FileChannel.open(binaryPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Unrecognised binary snapshot: " + binaryPath);
+            }
+            if (buffer.getShort() != VERSION) {
+                throw new IOException("Unrecognised binary snapshot: " + binaryPath);
+            }
+            verifySnapshotChecksum(buffer);
+            int taskCount = buffer.getInt();
+
+            int[] ids = new int[taskCount];
+            buffer.asIntBuffer().get(ids);
+            buffer.position(buffer.position() + taskCount * Integer.BYTES);
+            byte[] types = new byte[taskCount];
+            byte[] statuses = new byte[taskCount];
+            buffer.get(types);
+            buffer.get(statuses);
+            int startColumn = buffer.position();
+            int endColumn = startColumn + taskCount * Long.BYTES;
+            buffer.position(endColumn + taskCount * Long.BYTES);
+
+            TaskType[] taskTypes = TaskType.values();
+            TaskStatus[] taskStatuses = TaskStatus.values();
+            List<Task> tasks = new ArrayList<>(taskCount);
+            StringPool descriptions = new StringPool();
+            for (int i = 0; i < taskCount; i++) {
+                byte[] descriptionBytes = new byte[buffer.getInt()];
+                buffer.get(descriptionBytes);
+                String description = descriptions.intern(new String(descriptionBytes, StandardCharsets.UTF_8));
+
+                Task task = createTask(taskTypes[types[i]], description,
+                        buffer.getLong(startColumn + i * Long.BYTES),
+                        buffer.getLong(endColumn + i * Long.BYTES));
+                if (taskStatuses[statuses[i]] == TaskStatus.COMPLETED) {
+                    task.markAsDone();
+                }
+                if (ids[i] > 0) {
+                    task.setId(ids[i]);
+                }
+                tasks.add(task);
+            }
+            return tasks;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted binary snapshot: " + binaryPath, e);
+        }
+    }
+
+    /**
+     * Checks the CRC-32 at the end of the snapshot against every byte before it.
+     *
+     * @param buffer the mapped snapshot
+     * @throws IOException if the checksums do not match
+     */
+    private void verifySnapshotChecksum(ByteBuffer buffer) throws IOException {
+        int checksumPosition = buffer.limit() - Integer.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IOException("Checksum mismatch in binary snapshot: " + binaryPath);
+        }
+    }
+
+    /**
+     * Writes the tasks column by column, followed by their checksum, according to the configured durability.
+     *
+     * @param taskList the tasks to write
+     * @throws IOException if there is an error writing the file
+     */
+    private void writeSnapshot(List<Task> taskList) throws IOException {
+        Files.createDirectories(binaryPath.toAbsolutePath().getParent());
+        writeFile(binaryPath, stream -> {
+            CRC32 checksum = new CRC32();
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new CheckedOutputStream(stream, checksum)));
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(taskList.size());
+            for (Task task : taskList) {
+                out.writeInt(task.getId());
+            }
+            for (Task task : taskList) {
+                out.writeByte(task.getTaskType().ordinal());
+            }
+            for (Task task : taskList) {
+                out.writeByte(task.getTaskStatus().ordinal());
+            }
+            for (Task task : taskList) {
+                out.writeLong(toEpochSecond(getStartDate(task)));
+            }
+            for (Task task : taskList) {
+                out.writeLong(toEpochSecond(getEndDate(task)));
+            }
+            for (Task task : taskList) {
+                byte[] descriptionBytes = task.getDescription().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(descriptionBytes.length);
+                out.write(descriptionBytes);
+            }
+            out.flush();
+            new DataOutputStream(stream).writeInt((int) checksum.getValue());
+        });
+    }
+
+    /**
+     * Factory method to create tasks from their binary columns.
+     *
+     * @param taskType    The type of task.
+     * @param description The task description.
+     * @param startEpoch  The start date column value.
+     * @param endEpoch    The end date column value.
+     * @return The corresponding {@link Task} object.
+     */
+    private static Task createTask(TaskType taskType, String description, long startEpoch, long endEpoch) {
+        return switch (taskType) {
+        case TODO -> new Todo(description);
+        case DEADLINE -> new Deadline(description, toDateTime(startEpoch));
+        case EVENT -> new Event(description, toDateTime(startEpoch), toDateTime(endEpoch));
+        };
+    }
+
+    /**
+     * Retrieves the value for the start date column of a task.
+     *
+     * @param task the task
+     * @return the due date of a deadline, the start of an event, or {@code null} for todos
+     */
+    private static LocalDateTime getStartDate(Task task) {
+        if (task instanceof Deadline deadline) {
+            return deadline.getDueDate();
+        } else if (task instanceof Event event) {
+            return event.getStartDateTime();
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the value for the end date column of a task.
+     *
+     * @param task the task
+     * @return the end of an event, or {@code null} for other tasks
+     */
+    private static LocalDateTime getEndDate(Task task) {
+        if (task instanceof Event event) {
+            return event.getEndDateTime();
+        }
+        return null;
+    }
+
+    /**
+     * Converts a date-time into UTC epoch seconds for the date columns.
+     *
+     * @param dateTime the date-time, or {@code null} for an unused column entry
+     * @return the epoch seconds, or 0 if the date-time is {@code null}
+     */
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Converts a date column value back into a date-time.
+     *
+     * @param epochSecond the UTC epoch seconds
+     * @return the corresponding {@link LocalDateTime}
+     */
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Derives the snapshot path by replacing the text file's extension with {@code .bin}.
+     *
+     * @param textPath the path of the text file
+     * @return the path of the binary snapshot
+     */
+    private static Path toBinaryPath(Path textPath) {
+        String fileName = textPath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return textPath.resolveSibling(baseName + BINARY_EXTENSION);
+    }
+}
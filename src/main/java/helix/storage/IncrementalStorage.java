@@ -0,0 +1,248 @@
+package helix.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import helix.enums.Durability;
+import helix.enums.MutationType;
+import helix.enums.TaskStatus;
+import helix.task.Task;
+
+/**
+ * Keeps the plain text task file, but only rewrites the parts of it that changed since the last save.
+ *
+ * <p>
+ * Loading and saving record where each task's line starts and how long it is. When a batch of changes is
+ * recorded, each changed task is serialised again and, if its line is as long as before, written over the
+ * old line in place through a {@link FileChannel}. The completion status is padded to a fixed width, so
+ * marking and unmarking tasks always takes this path. New tasks are appended to the end of the file.
+ * Anything else, such as a removal or an edit that changes the length of a line, rewrites the whole file.
+ * </p>
+ *
+ * <p>
+ * Because lines are patched in place, the file carries no checksum line. A file that has one, such as a
+ * file saved in text mode, is rewritten in full on the first change.
+ * </p>
+ */
+public class IncrementalStorage extends Storage {
+    private static final int STATUS_WIDTH = TaskStatus.COMPLETED.name().length();
+    private static final int INITIAL_LINE_CAPACITY = 1024;
+
+    private final byte[] lineSeparator = System.lineSeparator().getBytes(CHARSET);
+
+    private long[] lineStarts = new long[INITIAL_LINE_CAPACITY];
+    private int[] lineLengths = new int[INITIAL_LINE_CAPACITY];
+    private int lineCount;
+    private long fileLength;
+    private boolean isIndexed;
+    private boolean needsFullRewrite;
+
+    /**
+     * Constructs an {@code IncrementalStorage} object with the specified file path.
+     *
+     * @param filePath the path of the task file
+     */
+    public IncrementalStorage(String filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Constructs an {@code IncrementalStorage} object with the specified file path and durability.
+     * The durability applies to full rewrites; with {@link Durability#SYNC}, in-place changes are
+     * also forced to disk before they return.
+     *
+     * @param filePath   the path of the task file
+     * @param durability how strongly saves are protected against crashes
+     */
+    public IncrementalStorage(String filePath, Durability durability) {
+        super(filePath, durability);
+    }
+
+    /**
+     * Loads tasks from the task file, recording where each task's line is.
+     *
+     * @return a {@link List} of {@link Task} objects loaded from the file
+     * @throws IOException if there is an error reading the file or its checksum does not match
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        ensureFileExists();
+        byte[] data = Files.readAllBytes(getFilePath());
+        isIndexed = false;
+        lineCount = 0;
+
+        List<Task> tasks = new ArrayList<>();
+        StringPool descriptions = new StringPool();
+        CRC32 checksum = new CRC32();
+        String checksumLine = null;
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < data.length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && data[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            int lineLength = lineEnd - lineStart;
+            if (lineLength > 0 && data[lineStart] == METADATA_PREFIX.charAt(0)) {
+                String metadata = new String(data, lineStart, lineLength, CHARSET);
+                if (metadata.startsWith(CHECKSUM_HEADER)) {
+                    checksumLine = metadata;
+                }
+            } else if (lineLength > 0) {
+                updateChecksum(checksum, data, lineStart, lineLength);
+                tasks.add(parseTask(new String(data, lineStart, lineLength, CHARSET), descriptions));
+                addLine(lineStart, lineLength);
+            }
+            lineStart = nextLineStart;
+        }
+        verifyChecksum(getFilePath(), checksumLine, checksum);
+
+        fileLength = data.length;
+        needsFullRewrite = checksumLine != null || (data.length > 0 && data[data.length - 1] != '\n');
+        isIndexed = true;
+        return tasks;
+    }
+
+    /**
+     * Rewrites the whole task file, padding every status field so that later status changes can be
+     * made in place.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to save
+     * @throws IOException if there is an error writing to the file
+     */
+    @Override
+    public void save(List<Task> taskList) throws IOException {
+        isIndexed = false;
+        lineCount = 0;
+        TaskLineEncoder encoder = getLineEncoder();
+        writeChannelFile(getFilePath(), channel -> {
+            long position = 0;
+            encoder.start(channel);
+            for (Task task : taskList) {
+                int lineLength = encoder.writeTask(task, STATUS_WIDTH, null);
+                addLine(position, lineLength);
+                position += lineLength + lineSeparator.length;
+            }
+            encoder.finish();
+            fileLength = position;
+        });
+        needsFullRewrite = false;
+        isIndexed = true;
+    }
+
+    /**
+     * Persists a batch of changes by patching the lines of changed tasks in place and appending new tasks,
+     * falling back to a full rewrite if the batch removes tasks or changes the length of a line.
+     *
+     * @param mutations the changes that were made, oldest first
+     * @param taskList the full {@link List} of {@link Task} objects after the changes
+     * @throws IOException if there is an error writing to the file
+     */
+    @Override
+    public void record(List<TaskMutation> mutations, List<Task> taskList) throws IOException {
+        if (!isIndexed || needsFullRewrite || taskList.size() < lineCount || hasRemoval(mutations)) {
+            save(taskList);
+            return;
+        }
+
+        // Without removals, existing tasks keep their positions and new tasks are only ever appended
+        BitSet changedLines = new BitSet();
+        for (TaskMutation mutation : mutations) {
+            if (mutation.getTaskIndex() < lineCount) {
+                changedLines.set(mutation.getTaskIndex());
+            }
+        }
+        List<byte[]> patches = new ArrayList<>(changedLines.cardinality());
+        for (int i = changedLines.nextSetBit(0); i >= 0; i = changedLines.nextSetBit(i + 1)) {
+            byte[] lineBytes = serialiseTask(taskList.get(i), STATUS_WIDTH).getBytes(CHARSET);
+            if (lineBytes.length != lineLengths[i]) {
+                save(taskList);
+                return;
+            }
+            patches.add(lineBytes);
+        }
+        ByteArrayOutputStream appended = new ByteArrayOutputStream();
+        int[] appendedLengths = new int[taskList.size() - lineCount];
+        for (int i = lineCount; i < taskList.size(); i++) {
+            byte[] lineBytes = serialiseTask(taskList.get(i), STATUS_WIDTH).getBytes(CHARSET);
+            appended.write(lineBytes);
+            appended.write(lineSeparator);
+            appendedLengths[i - lineCount] = lineBytes.length;
+        }
+
+        isIndexed = false;
+        try (FileChannel channel = FileChannel.open(getFilePath(), StandardOpenOption.WRITE)) {
+            int patchIndex = 0;
+            for (int i = changedLines.nextSetBit(0); i >= 0; i = changedLines.nextSetBit(i + 1)) {
+                writeAt(channel, patches.get(patchIndex++), lineStarts[i]);
+            }
+            writeAt(channel, appended.toByteArray(), fileLength);
+            if (getDurability() == Durability.SYNC) {
+                channel.force(false);
+            }
+        }
+        for (int appendedLength : appendedLengths) {
+            addLine(fileLength, appendedLength);
+            fileLength += appendedLength + lineSeparator.length;
+        }
+        isIndexed = true;
+    }
+
+    /**
+     * Checks whether a batch of changes removes any task, which shifts the lines after it.
+     *
+     * @param mutations the changes to check
+     * @return true if any of the changes is a removal, false otherwise
+     */
+    private static boolean hasRemoval(List<TaskMutation> mutations) {
+        for (TaskMutation mutation : mutations) {
+            if (mutation.getMutationType() == MutationType.REMOVE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes all the given bytes to the channel, starting at the given position.
+     *
+     * @param channel  the channel of the task file
+     * @param bytes    the bytes to write
+     * @param position the position in the file to write them at
+     * @throws IOException if there is an error writing to the file
+     */
+    private static void writeAt(FileChannel channel, byte[] bytes, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Records the position and length of the next task line.
+     *
+     * @param lineStart  the position in the file where the line starts
+     * @param lineLength the length of the line in bytes, without its terminator
+     */
+    private void addLine(long lineStart, int lineLength) {
+        if (lineCount == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+            lineLengths = Arrays.copyOf(lineLengths, lineCount * 2);
+        }
+        lineStarts[lineCount] = lineStart;
+        lineLengths[lineCount] = lineLength;
+        lineCount++;
+    }
+}
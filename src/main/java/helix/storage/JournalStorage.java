@@ -0,0 +1,478 @@
+package helix.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import helix.enums.Durability;
+import helix.enums.MutationType;
+import helix.task.Task;
+
+/**
+ * Persists tasks as a snapshot file plus an append-only journal of changes.
+ *
+ * <p>
+ * Instead of rewriting the whole task file after every change, each {@link TaskMutation} is appended
+ * to a journal next to the snapshot as one compact line. Loading reads the snapshot and replays the
+ * journal on top of it. Once the journal grows past a threshold, it is rotated out and compacted into
+ * a fresh snapshot on a background thread.
+ * </p>
+ *
+ * <p>
+ * The snapshot and every journal start with a generation header. A journal is only replayed if its
+ * generation is not older than the snapshot's, so a crash at any point during compaction never causes
+ * a change to be applied twice or lost.
+ * </p>
+ */
+public class JournalStorage extends Storage {
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+    private static final String GENERATION_HEADER = METADATA_PREFIX + " generation ";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_SUFFIX = ".journal.compacting";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SEPARATOR = " | ";
+    private static final String SEPARATOR_REGEX = " \\| ";
+
+    private final Path journalPath;
+    private final Path compactingPath;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+    private final Object journalLock = new Object();
+
+    private FileChannel journalChannel;
+    private BufferedWriter journalWriter;
+    private long generation;
+    private long snapshotGeneration;
+    private int journalEntryCount;
+    private boolean isJournalDamaged;
+    private Future<?> pendingCompaction;
+
+    /**
+     * Constructs a {@code JournalStorage} with the default compaction threshold.
+     *
+     * @param filePath the path of the snapshot file
+     */
+    public JournalStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournalStorage} with the default compaction threshold and the given durability.
+     *
+     * @param filePath   the path of the snapshot file
+     * @param durability how strongly saves are protected against crashes
+     */
+    public JournalStorage(String filePath, Durability durability) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, durability);
+    }
+
+    /**
+     * Constructs a {@code JournalStorage} that compacts once the journal holds the given number of entries.
+     *
+     * @param filePath            the path of the snapshot file
+     * @param compactionThreshold the number of journal entries that triggers a compaction
+     */
+    public JournalStorage(String filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, Durability.SYNC);
+    }
+
+    /**
+     * Constructs a {@code JournalStorage} with the given compaction threshold and durability.
+     * With {@link Durability#SYNC}, every batch appended to the journal is forced to disk before it returns.
+     *
+     * @param filePath            the path of the snapshot file
+     * @param compactionThreshold the number of journal entries that triggers a compaction
+     * @param durability          how strongly saves are protected against crashes
+     */
+    public JournalStorage(String filePath, int compactionThreshold, Durability durability) {
+        super(filePath, durability);
+        assert compactionThreshold > 0 : "Compaction threshold must be positive!";
+        this.journalPath = siblingPath(JOURNAL_SUFFIX);
+        this.compactingPath = siblingPath(COMPACTING_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "helix-journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Loads tasks by reading the snapshot and replaying any journals written since.
+     * If a compaction was interrupted previously, it is completed before returning. A journal with a
+     * torn final entry or a missing header is replaced by a fresh snapshot, so later appends stay readable.
+     *
+     * @return a {@link List} of {@link Task} objects reflecting every recorded change
+     * @throws IOException if there is an error reading the files
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        ensureFileExists();
+        synchronized (journalLock) {
+            List<Task> tasks = new ArrayList<>();
+            snapshotGeneration = readSnapshot(tasks);
+            generation = snapshotGeneration;
+            isJournalDamaged = false;
+
+            boolean hasInterruptedCompaction = replayJournal(compactingPath, tasks) >= 0;
+            journalEntryCount = Math.max(replayJournal(journalPath, tasks), 0);
+
+            if (hasInterruptedCompaction || isJournalDamaged) {
+                writeFullSnapshot(tasks);
+            } else if (journalWriter == null) {
+                openJournal(!Files.exists(journalPath));
+            }
+            return tasks;
+        }
+    }
+
+    /**
+     * Saves the full list of tasks as a new snapshot and starts an empty journal.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to save
+     * @throws IOException if there is an error writing the files
+     */
+    @Override
+    public void save(List<Task> taskList) throws IOException {
+        synchronized (journalLock) {
+            writeFullSnapshot(taskList);
+        }
+    }
+
+    /**
+     * Appends a batch of changes to the journal in a single write,
+     * scheduling a compaction if the journal has grown too large.
+     *
+     * @param mutations the changes that were made, oldest first
+     * @param taskList the full {@link List} of {@link Task} objects after the changes
+     * @throws IOException if there is an error writing to the journal
+     */
+    @Override
+    public void record(List<TaskMutation> mutations, List<Task> taskList) throws IOException {
+        synchronized (journalLock) {
+            if (journalWriter == null) {
+                openJournal(!Files.exists(journalPath));
+            }
+            for (TaskMutation mutation : mutations) {
+                journalWriter.write(serialiseMutation(mutation));
+                journalWriter.newLine();
+            }
+            journalWriter.flush();
+            if (getDurability() == Durability.SYNC) {
+                journalChannel.force(false);
+            }
+            journalEntryCount += mutations.size();
+
+            if (journalEntryCount >= compactionThreshold && !isCompacting()) {
+                scheduleCompaction(taskList);
+            }
+        }
+    }
+
+    /**
+     * Blocks until any scheduled compaction has finished.
+     * Intended for tests that need to observe the files after compaction.
+     *
+     * @throws IOException if the compaction failed
+     */
+    void awaitCompaction() throws IOException {
+        Future<?> compaction;
+        synchronized (journalLock) {
+            compaction = pendingCompaction;
+        }
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            throw new IOException("Journal compaction failed", e);
+        }
+    }
+
+    /**
+     * Rotates the current journal out and compacts it into a new snapshot on the background thread.
+     * The snapshot content is captured on the caller's thread, so later changes can safely proceed.
+     *
+     * @param taskList the current list of tasks
+     * @throws IOException if the journal could not be rotated
+     */
+    private void scheduleCompaction(List<Task> taskList) throws IOException {
+        List<String> lines = serialiseAll(taskList);
+        closeJournal();
+        Files.move(journalPath, compactingPath, StandardCopyOption.REPLACE_EXISTING);
+        generation++;
+        openJournal(true);
+
+        long compactedGeneration = generation;
+        pendingCompaction = compactor.submit(() -> {
+            writeSnapshotFile(lines, compactedGeneration);
+            Files.deleteIfExists(compactingPath);
+            return null;
+        });
+    }
+
+    /**
+     * Writes a new snapshot of the given tasks synchronously and resets the journal.
+     * The caller must hold the journal lock.
+     *
+     * @param taskList the tasks to write
+     * @throws IOException if there is an error writing the files
+     */
+    private void writeFullSnapshot(List<Task> taskList) throws IOException {
+        closeJournal();
+        generation++;
+        writeSnapshotFile(serialiseAll(taskList), generation);
+        Files.deleteIfExists(compactingPath);
+        openJournal(true);
+    }
+
+    /**
+     * Writes snapshot lines and their checksum to a temporary file and moves it over the snapshot,
+     * unless a newer snapshot has already been written.
+     *
+     * @param lines           the serialised tasks
+     * @param snapshotVersion the generation recorded in the snapshot header
+     * @throws IOException if there is an error writing the file
+     */
+    private void writeSnapshotFile(List<String> lines, long snapshotVersion) throws IOException {
+        Path tempPath = siblingPath("." + snapshotVersion + TEMP_SUFFIX);
+        byte[] lineSeparator = System.lineSeparator().getBytes(CHARSET);
+        writeTempFile(tempPath, out -> {
+            out.write((GENERATION_HEADER + snapshotVersion).getBytes(CHARSET));
+            out.write(lineSeparator);
+            CRC32 checksum = new CRC32();
+            for (String line : lines) {
+                byte[] lineBytes = line.getBytes(CHARSET);
+                updateChecksum(checksum, lineBytes, 0, lineBytes.length);
+                out.write(lineBytes);
+                out.write(lineSeparator);
+            }
+            out.write(formatChecksumLine(checksum).getBytes(CHARSET));
+            out.write(lineSeparator);
+        });
+        synchronized (journalLock) {
+            if (snapshotVersion <= snapshotGeneration) {
+                Files.deleteIfExists(tempPath);
+                return;
+            }
+            replaceFile(tempPath, getFilePath());
+            snapshotGeneration = snapshotVersion;
+        }
+    }
+
+    /**
+     * Reads the tasks in the snapshot into the given list, verifying its checksum if it has one.
+     *
+     * @param tasks the list to fill
+     * @return the generation of the snapshot, or 0 if it has no header
+     * @throws IOException if there is an error reading the file or its checksum does not match
+     */
+    private long readSnapshot(List<Task> tasks) throws IOException {
+        long snapshotVersion = 0;
+        StringPool descriptions = new StringPool();
+        CRC32 checksum = new CRC32();
+        String checksumLine = null;
+        try (BufferedReader reader = Files.newBufferedReader(getFilePath(), CHARSET)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(GENERATION_HEADER)) {
+                    snapshotVersion = Long.parseLong(line.substring(GENERATION_HEADER.length()).trim());
+                } else if (line.startsWith(CHECKSUM_HEADER)) {
+                    checksumLine = line;
+                } else if (!isMetadataLine(line)) {
+                    byte[] lineBytes = line.getBytes(CHARSET);
+                    updateChecksum(checksum, lineBytes, 0, lineBytes.length);
+                    tasks.add(parseTask(line, descriptions));
+                }
+            }
+        }
+        verifyChecksum(getFilePath(), checksumLine, checksum);
+        return snapshotVersion;
+    }
+
+    /**
+     * Replays a journal onto the given tasks if it belongs to the current generation or a later one.
+     * A malformed or unterminated final entry is treated as a torn write and ignored, and a journal
+     * without a header is skipped; both mark the journal as damaged so that it gets rewritten.
+     *
+     * @param path  the journal to replay
+     * @param tasks the tasks to apply the entries to
+     * @return the number of entries replayed, or -1 if the journal was missing or stale
+     * @throws IOException if there is an error reading the file
+     */
+    private int replayJournal(Path path, List<Task> tasks) throws IOException {
+        if (!Files.exists(path)) {
+            return -1;
+        }
+        List<String> lines = Files.readAllLines(path, CHARSET);
+        boolean isTerminated = endsWithLineBreak(path);
+        boolean hasHeader = !lines.isEmpty() && lines.get(0).startsWith(GENERATION_HEADER)
+                && (isTerminated || lines.size() > 1);
+        if (!hasHeader) {
+            isJournalDamaged = true;
+            return -1;
+        }
+        long journalGeneration = Long.parseLong(lines.get(0).substring(GENERATION_HEADER.length()).trim());
+        if (journalGeneration < snapshotGeneration) {
+            Files.deleteIfExists(path);
+            return -1;
+        }
+        generation = Math.max(generation, journalGeneration);
+        isJournalDamaged |= !isTerminated;
+
+        int replayed = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            boolean isFinalEntry = i == lines.size() - 1;
+            if (isFinalEntry && !isTerminated) {
+                break;
+            }
+            try {
+                applyEntry(lines.get(i), tasks);
+                replayed++;
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                if (!isFinalEntry) {
+                    throw new IOException("Corrupted journal entry: " + lines.get(i), e);
+                }
+                isJournalDamaged = true;
+            }
+        }
+        return replayed;
+    }
+
+    /**
+     * Checks whether the given non-empty file ends with a line break, i.e. its last line was written completely.
+     *
+     * @param path the file to check
+     * @return true if the last byte of the file is a line feed, false otherwise
+     * @throws IOException if there is an error reading the file
+     */
+    private static boolean endsWithLineBreak(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return false;
+            }
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    /**
+     * Applies a single serialised journal entry to the given tasks.
+     *
+     * @param entry the journal line
+     * @param tasks the tasks to modify
+     */
+    private static void applyEntry(String entry, List<Task> tasks) {
+        String[] parts = entry.split(SEPARATOR_REGEX, 3);
+        MutationType mutationType = MutationType.valueOf(parts[0]);
+        int taskIndex = Integer.parseInt(parts[1]);
+
+        switch (mutationType) {
+        case ADD -> tasks.add(taskIndex, parseTask(parts[2]));
+        case REMOVE -> tasks.remove(taskIndex);
+        case MARK -> tasks.get(taskIndex).markAsDone();
+        case UNMARK -> tasks.get(taskIndex).markAsUndone();
+        case UPDATE -> tasks.set(taskIndex, parseTask(parts[2]));
+        default -> throw new IllegalArgumentException("Unknown journal entry: " + entry);
+        }
+    }
+
+    /**
+     * Serialises a change into a journal line of the form {@code TYPE | index | [task]}.
+     *
+     * @param mutation the change to serialise
+     * @return the journal line
+     */
+    private static String serialiseMutation(TaskMutation mutation) {
+        MutationType mutationType = mutation.getMutationType();
+        String entry = mutationType.name() + SEPARATOR + mutation.getTaskIndex();
+        if (mutationType == MutationType.ADD || mutationType == MutationType.UPDATE) {
+            entry += SEPARATOR + serialiseTask(mutation.getTask());
+        }
+        return entry;
+    }
+
+    /**
+     * Serialises every task into its storage line.
+     *
+     * @param taskList the tasks to serialise
+     * @return the serialised lines in order
+     */
+    private static List<String> serialiseAll(List<Task> taskList) {
+        List<String> lines = new ArrayList<>(taskList.size());
+        for (Task task : taskList) {
+            lines.add(serialiseTask(task));
+        }
+        return lines;
+    }
+
+    /**
+     * Opens the journal for appending, optionally starting it afresh with the current generation header.
+     *
+     * @param isNewJournal true to truncate the journal and write a new header
+     * @throws IOException if the journal cannot be opened
+     */
+    private void openJournal(boolean isNewJournal) throws IOException {
+        if (isNewJournal) {
+            journalChannel = FileChannel.open(journalPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            journalWriter = new BufferedWriter(Channels.newWriter(journalChannel, CHARSET));
+            journalWriter.write(GENERATION_HEADER + generation);
+            journalWriter.newLine();
+            journalWriter.flush();
+            journalEntryCount = 0;
+        } else {
+            journalChannel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalWriter = new BufferedWriter(Channels.newWriter(journalChannel, CHARSET));
+        }
+    }
+
+    /**
+     * Closes the journal writer if it is open.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    private void closeJournal() throws IOException {
+        if (journalWriter != null) {
+            journalWriter.close();
+            journalWriter = null;
+            journalChannel = null;
+        }
+    }
+
+    /**
+     * Checks whether a background compaction is still running.
+     *
+     * @return true if a compaction is in progress, false otherwise
+     */
+    private boolean isCompacting() {
+        return pendingCompaction != null && !pendingCompaction.isDone();
+    }
+
+    /**
+     * Resolves a file next to the snapshot whose name is the snapshot's name plus the given suffix.
+     *
+     * @param suffix the suffix to append
+     * @return the sibling path
+     */
+    private Path siblingPath(String suffix) {
+        return getFilePath().resolveSibling(getFilePath().getFileName() + suffix);
+    }
+}
@@ -0,0 +1,121 @@
+package helix.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import helix.enums.Durability;
+import helix.task.Task;
+
+/**
+ * Loads the plain text task file lazily, so that startup time does not grow with the number of tasks.
+ *
+ * <p>
+ * Loading only reads the file into memory and records where each line starts and ends. Each
+ * {@link Task} is parsed the first time it is accessed. When saving, lines that were never accessed
+ * are copied back byte for byte instead of being parsed and serialised again.
+ * </p>
+ */
+public class LazyStorage extends Storage {
+    private static final int INITIAL_LINE_CAPACITY = 1024;
+
+
+    /**
+     * Constructs a {@code LazyStorage} object with the specified file path.
+     *
+     * @param filePath the path of the task file
+     */
+    public LazyStorage(String filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Constructs a {@code LazyStorage} object with the specified file path and durability.
+     *
+     * @param filePath   the path of the task file
+     * @param durability how strongly saves are protected against crashes
+     */
+    public LazyStorage(String filePath, Durability durability) {
+        super(filePath, durability);
+    }
+
+    /**
+     * Indexes the lines of the task file without parsing them, verifying the file's checksum over the raw bytes.
+     *
+     * @return a {@link List} that parses each {@link Task} on first access
+     * @throws IOException if there is an error reading the file or its checksum does not match
+     */
+    @Override
+    public List<Task> load() throws IOException {
+        ensureFileExists();
+        byte[] data = Files.readAllBytes(getFilePath());
+
+        int[] lineStarts = new int[INITIAL_LINE_CAPACITY];
+        int[] lineEnds = new int[INITIAL_LINE_CAPACITY];
+        int lineCount = 0;
+        int lineStart = 0;
+        CRC32 checksum = new CRC32();
+        String checksumLine = null;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < data.length && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && data[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+            if (lineEnd > lineStart && data[lineStart] == METADATA_PREFIX.charAt(0)) {
+                String metadata = new String(data, lineStart, lineEnd - lineStart, CHARSET);
+                if (metadata.startsWith(CHECKSUM_HEADER)) {
+                    checksumLine = metadata;
+                }
+            } else if (lineEnd > lineStart) {
+                updateChecksum(checksum, data, lineStart, lineEnd - lineStart);
+                if (lineCount == lineStarts.length) {
+                    lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+                    lineEnds = Arrays.copyOf(lineEnds, lineCount * 2);
+                }
+                lineStarts[lineCount] = lineStart;
+                lineEnds[lineCount] = lineEnd;
+                lineCount++;
+            }
+            lineStart = nextLineStart;
+        }
+        verifyChecksum(getFilePath(), checksumLine, checksum);
+        return new LazyTaskList(data, CHARSET, lineStarts, lineEnds, lineCount);
+    }
+
+    /**
+     * Saves the tasks to the task file, copying lines that were never accessed as they are,
+     * followed by their checksum.
+     *
+     * @param taskList the {@link List} of {@link Task} objects to save
+     * @throws IOException if there is an error writing to the file
+     */
+    @Override
+    public void save(List<Task> taskList) throws IOException {
+        if (!(taskList instanceof LazyTaskList lazyTasks)) {
+            super.save(taskList);
+            return;
+        }
+        byte[] lineSeparator = System.lineSeparator().getBytes(CHARSET);
+        writeFile(getFilePath(), out -> {
+            CRC32 checksum = new CRC32();
+            for (int i = 0; i < lazyTasks.size(); i++) {
+                if (lazyTasks.isMaterialized(i)) {
+                    byte[] lineBytes = serialiseTask(lazyTasks.get(i)).getBytes(CHARSET);
+                    updateChecksum(checksum, lineBytes, 0, lineBytes.length);
+                    out.write(lineBytes);
+                } else {
+                    lazyTasks.writeRawLine(i, out, checksum);
+                }
+                out.write(lineSeparator);
+            }
+            out.write(formatChecksumLine(checksum).getBytes(CHARSET));
+            out.write(lineSeparator);
+        });
+    }
+}
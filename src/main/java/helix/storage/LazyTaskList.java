@@ -0,0 +1,271 @@
+package helix.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+import helix.task.Task;
+import helix.task.TaskBulkRemoval;
+import helix.task.TaskIdLookup;
+
+/**
+ * Holds the raw lines of a task file and turns each line into a {@link Task} only when it is first accessed.
+ *
+ * <p>
+ * Lines that have never been accessed are kept as byte ranges into the file content, so they can also be
+ * written back out without ever being parsed, and their IDs can be read without parsing the rest of the line.
+ * Tasks added or replaced after loading only exist as objects.
+ * </p>
+ */
+class LazyTaskList extends AbstractList<Task> implements RandomAccess, TaskIdLookup, TaskBulkRemoval {
+    private static final int NOT_ON_DISK = -1;
+
+    private final byte[] data;
+    private final Charset charset;
+    private int[] lineStarts;
+    private int[] lineEnds;
+    private Task[] tasks;
+    private int size;
+
+    /**
+     * Constructs a LazyTaskList over already indexed file content.
+     *
+     * @param data       the raw content of the task file
+     * @param charset    the charset the file was written in
+     * @param lineStarts the start offset of each task line
+     * @param lineEnds   the end offset (exclusive) of each task line
+     * @param size       the number of task lines
+     */
+    LazyTaskList(byte[] data, Charset charset, int[] lineStarts, int[] lineEnds, int size) {
+        this.data = data;
+        this.charset = charset;
+        this.lineStarts = lineStarts;
+        this.lineEnds = lineEnds;
+        this.tasks = new Task[lineStarts.length];
+        this.size = size;
+    }
+
+    /**
+     * Retrieves the task at the given position, parsing its line on first access.
+     * Synchronized because readers sharing a task list's read lock may materialize tasks concurrently,
+     * and they must all see the same {@link Task} object.
+     *
+     * @param index the 0-based position of the task
+     * @return the task at the given position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public synchronized Task get(int index) {
+        Objects.checkIndex(index, size);
+        Task task = tasks[index];
+        if (task == null) {
+            task = Storage.parseTask(readLine(index));
+            tasks[index] = task;
+        }
+        return task;
+    }
+
+    /**
+     * Retrieves the ID of the task at the given position, reading it from the raw line if the task has not
+     * been parsed yet.
+     *
+     * @param index the 0-based position of the task
+     * @return the ID of the task, or 0 if its line has none
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public synchronized int getTaskId(int index) {
+        Objects.checkIndex(index, size);
+        if (tasks[index] != null) {
+            return tasks[index].getId();
+        }
+        int id = 0;
+        for (int i = lineStarts[index]; i < lineEnds[index] && Character.isDigit(data[i]); i++) {
+            id = id * 10 + (data[i] - '0');
+        }
+        return id;
+    }
+
+    /**
+     * Replaces the task at the given position.
+     *
+     * @param index the 0-based position of the task
+     * @param task  the new task
+     * @return the task previously at the given position
+     */
+    @Override
+    public Task set(int index, Task task) {
+        Task previous = get(index);
+        tasks[index] = task;
+        lineStarts[index] = NOT_ON_DISK;
+        return previous;
+    }
+
+    /**
+     * Inserts a task at the given position, shifting later tasks back.
+     *
+     * @param index the 0-based position to insert at
+     * @param task  the task to insert
+     */
+    @Override
+    public void add(int index, Task task) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + 1);
+        shift(index, index + 1, size - index);
+        tasks[index] = task;
+        lineStarts[index] = NOT_ON_DISK;
+        lineEnds[index] = NOT_ON_DISK;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes the task at the given position, shifting later tasks forward.
+     *
+     * @param index the 0-based position of the task
+     * @return the removed task
+     */
+    @Override
+    public Task remove(int index) {
+        Task removed = get(index);
+        shift(index + 1, index, size - index - 1);
+        size--;
+        tasks[size] = null;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes every task matching the filter, moving the remaining tasks forward in a single pass.
+     *
+     * @param filter the condition a task must meet to be removed
+     * @return true if any task was removed, false otherwise
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Task> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(get(i))) {
+                continue;
+            }
+            tasks[kept] = tasks[i];
+            lineStarts[kept] = lineStarts[i];
+            lineEnds[kept] = lineEnds[i];
+            kept++;
+        }
+        if (kept == size) {
+            return false;
+        }
+        Arrays.fill(tasks, kept, size, null);
+        size = kept;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes the tasks at the given positions, moving the remaining tasks forward in a single pass.
+     * Unlike {@link #removeIf(Predicate)}, no task is parsed, so lines that have not been accessed stay raw.
+     *
+     * @param sortedIndices the distinct 0-based positions of the tasks to remove, in ascending order
+     * @throws IndexOutOfBoundsException if any index is out of range
+     */
+    @Override
+    public void removeAll(int[] sortedIndices) {
+        for (int index : sortedIndices) {
+            Objects.checkIndex(index, size);
+        }
+        int target = sortedIndices.length == 0 ? size : sortedIndices[0];
+        int next = 0;
+        for (int source = target; source < size; source++) {
+            if (next < sortedIndices.length && sortedIndices[next] == source) {
+                next++;
+                continue;
+            }
+            tasks[target] = tasks[source];
+            lineStarts[target] = lineStarts[source];
+            lineEnds[target] = lineEnds[source];
+            target++;
+        }
+        if (target == size) {
+            return;
+        }
+        Arrays.fill(tasks, target, size, null);
+        size = target;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the task at the given position has been turned into an object.
+     *
+     * @param index the 0-based position of the task
+     * @return true if the task has been materialized, false if it is still a raw line
+     */
+    boolean isMaterialized(int index) {
+        return tasks[index] != null;
+    }
+
+    /**
+     * Writes the original bytes of a task line that has not been materialized, adding them to a checksum.
+     *
+     * @param index    the 0-based position of the task
+     * @param out      the stream to write to
+     * @param checksum the running checksum of the lines written so far
+     * @throws IOException if there is an error writing to the stream
+     */
+    void writeRawLine(int index, OutputStream out, CRC32 checksum) throws IOException {
+        assert !isMaterialized(index) : "Only raw lines can be copied as-is!";
+        int length = lineEnds[index] - lineStarts[index];
+        Storage.updateChecksum(checksum, data, lineStarts[index], length);
+        out.write(data, lineStarts[index], length);
+    }
+
+    /**
+     * Decodes the raw line of a task.
+     *
+     * @param index the 0-based position of the task
+     * @return the line as a string
+     */
+    private String readLine(int index) {
+        int start = lineStarts[index];
+        return new String(data, start, lineEnds[index] - start, charset);
+    }
+
+    /**
+     * Moves a range of entries within all parallel arrays.
+     *
+     * @param from   the first position to move
+     * @param to     the position to move it to
+     * @param length the number of entries to move
+     */
+    private void shift(int from, int to, int length) {
+        System.arraycopy(tasks, from, tasks, to, length);
+        System.arraycopy(lineStarts, from, lineStarts, to, length);
+        System.arraycopy(lineEnds, from, lineEnds, to, length);
+    }
+
+    /**
+     * Grows the parallel arrays so that they can hold at least the given number of tasks.
+     *
+     * @param capacity the required capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= tasks.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, tasks.length + (tasks.length >> 1) + 1);
+        tasks = Arrays.copyOf(tasks, newCapacity);
+        lineStarts = Arrays.copyOf(lineStarts, newCapacity);
+        lineEnds = Arrays.copyOf(lineEnds, newCapacity);
+    }
+}
@@ -0,0 +1,313 @@
+package helix.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+import helix.task.Task;
+
+/**
+ * Parses a large plain text task file on several threads.
+ *
+ * <p>
+ * The file is split into chunks that each end at a line break. Every chunk is memory-mapped and parsed on
+ * a {@link ForkJoinPool}, together with a CRC-32 of its task lines. The parsed chunks are then joined in
+ * file order and their checksums are combined into the checksum of the whole file, so the result is the
+ * same as reading the file line by line.
+ * </p>
+ */
+public class ParallelTaskFileReader {
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final long MIN_CHUNK_SIZE = 1 << 16;
+    private static final int BOUNDARY_SCAN_SIZE = 8192;
+    private static final int INITIAL_LINE_CAPACITY = 256;
+    private static final long CRC32_POLYNOMIAL = 0xEDB88320L;
+
+    private final ForkJoinPool pool;
+    private final Charset charset;
+
+    /**
+     * Constructs a {@code ParallelTaskFileReader} that parses chunks on the given pool.
+     *
+     * @param pool    the pool to parse chunks on
+     * @param charset the character set the task file is encoded in
+     */
+    public ParallelTaskFileReader(ForkJoinPool pool, Charset charset) {
+        this.pool = pool;
+        this.charset = charset;
+    }
+
+    /**
+     * Reads every task in the file, verifying the file's checksum if it has one.
+     *
+     * @param path the task file to read
+     * @return the tasks in the order they appear in the file
+     * @throws IOException if there is an error reading the file or its checksum does not match
+     */
+    public List<Task> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] boundaries = findChunkBoundaries(channel);
+            List<Callable<Chunk>> parsers = new ArrayList<>(boundaries.length - 1);
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                long chunkStart = boundaries[i];
+                long chunkEnd = boundaries[i + 1];
+                parsers.add(() -> parseChunk(channel, chunkStart, chunkEnd));
+            }
+
+            List<Chunk> chunks = new ArrayList<>(parsers.size());
+            for (Future<Chunk> result : pool.invokeAll(parsers)) {
+                chunks.add(getChunk(result));
+            }
+            return joinChunks(path, chunks);
+        }
+    }
+
+    /**
+     * Splits the file into chunks of roughly equal size, moving each boundary forward to the next line start.
+     *
+     * @param channel the channel of the task file
+     * @return the start of every chunk, followed by the size of the file
+     * @throws IOException if there is an error reading the file
+     */
+    private long[] findChunkBoundaries(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        long chunkCount = (long) pool.getParallelism() * CHUNKS_PER_THREAD;
+        long chunkSize = Math.min(Integer.MAX_VALUE, Math.max(MIN_CHUNK_SIZE, fileSize / chunkCount + 1));
+
+        List<Long> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0L);
+        long position = chunkSize;
+        while (position < fileSize) {
+            long lineStart = findNextLineStart(channel, position, fileSize);
+            if (lineStart >= fileSize) {
+                break;
+            }
+            chunkStarts.add(lineStart);
+            position = lineStart + chunkSize;
+        }
+
+        long[] boundaries = new long[chunkStarts.size() + 1];
+        for (int i = 0; i < chunkStarts.size(); i++) {
+            boundaries[i] = chunkStarts.get(i);
+        }
+        boundaries[chunkStarts.size()] = fileSize;
+        return boundaries;
+    }
+
+    /**
+     * Finds the start of the first line that begins after the given position.
+     *
+     * @param channel  the channel of the task file
+     * @param position the position to search from
+     * @param fileSize the size of the file
+     * @return the position just after the next line break, or the file size if there is none
+     * @throws IOException if there is an error reading the file
+     */
+    private static long findNextLineStart(FileChannel channel, long position, long fileSize) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(BOUNDARY_SCAN_SIZE);
+        while (position < fileSize) {
+            window.clear();
+            int bytesRead = channel.read(window, position);
+            if (bytesRead <= 0) {
+                break;
+            }
+            for (int i = 0; i < bytesRead; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += bytesRead;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Maps one chunk of the file and parses every line in it.
+     *
+     * @param channel    the channel of the task file
+     * @param chunkStart the position of the first byte of the chunk
+     * @param chunkEnd   the position just after the last byte of the chunk
+     * @return the tasks, checksum and checksum line found in the chunk
+     * @throws IOException if there is an error reading the file
+     */
+    private Chunk parseChunk(FileChannel channel, long chunkStart, long chunkEnd) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+        Chunk chunk = new Chunk();
+        byte[] line = new byte[INITIAL_LINE_CAPACITY];
+        int limit = buffer.limit();
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int nextLineStart = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            int lineLength = lineEnd - lineStart;
+            if (line.length < lineLength) {
+                line = new byte[Math.max(lineLength, line.length * 2)];
+            }
+            buffer.get(lineStart, line, 0, lineLength);
+
+            String text = new String(line, 0, lineLength, charset);
+            if (text.startsWith(Storage.CHECKSUM_HEADER)) {
+                chunk.checksumLine = text;
+            } else if (!Storage.isMetadataLine(text)) {
+                Storage.updateChecksum(chunk.checksum, line, 0, lineLength);
+                chunk.checksumLength += lineLength + 1;
+                chunk.tasks.add(Storage.parseTask(text, chunk.descriptions));
+            }
+            lineStart = nextLineStart;
+        }
+        return chunk;
+    }
+
+    /**
+     * Waits for a chunk to be parsed, rethrowing any error raised while parsing it.
+     *
+     * @param result the pending result of parsing the chunk
+     * @return the parsed chunk
+     * @throws IOException if the chunk could not be read or the thread was interrupted
+     */
+    private static Chunk getChunk(Future<Chunk> result) throws IOException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading tasks");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Failed to load tasks", e.getCause());
+        }
+    }
+
+    /**
+     * Joins the parsed chunks in file order and verifies their combined checksum.
+     *
+     * @param path   the file that was read, for error messages
+     * @param chunks the parsed chunks, in file order
+     * @return every task in the file
+     * @throws IOException if the checksum does not match
+     */
+    private static List<Task> joinChunks(Path path, List<Chunk> chunks) throws IOException {
+        int taskCount = 0;
+        for (Chunk chunk : chunks) {
+            taskCount += chunk.tasks.size();
+        }
+        List<Task> tasks = new ArrayList<>(taskCount);
+        long checksum = 0;
+        String checksumLine = null;
+        for (Chunk chunk : chunks) {
+            tasks.addAll(chunk.tasks);
+            checksum = combineChecksums(checksum, chunk.checksum.getValue(), chunk.checksumLength);
+            if (chunk.checksumLine != null) {
+                checksumLine = chunk.checksumLine;
+            }
+        }
+        Storage.verifyChecksum(path, checksumLine, checksum);
+        return tasks;
+    }
+
+    /**
+     * Computes the CRC-32 of two pieces of data joined together from the CRC-32 of each piece,
+     * using the same method as zlib's {@code crc32_combine}.
+     *
+     * @param firstChecksum  the CRC-32 of the first piece
+     * @param secondChecksum the CRC-32 of the second piece
+     * @param secondLength   the length of the second piece in bytes
+     * @return the CRC-32 of the first piece followed by the second
+     */
+    static long combineChecksums(long firstChecksum, long secondChecksum, long secondLength) {
+        if (secondLength <= 0) {
+            return firstChecksum;
+        }
+        // Operators that append one zero bit, then two, four, ... zero bits to the first checksum
+        long[] even = new long[Integer.SIZE];
+        long[] odd = new long[Integer.SIZE];
+        odd[0] = CRC32_POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < Integer.SIZE; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        squareMatrix(even, odd);
+        squareMatrix(odd, even);
+
+        long checksum = firstChecksum;
+        long remaining = secondLength;
+        do {
+            squareMatrix(even, odd);
+            if ((remaining & 1) != 0) {
+                checksum = multiplyMatrix(even, checksum);
+            }
+            remaining >>= 1;
+            if (remaining == 0) {
+                break;
+            }
+            squareMatrix(odd, even);
+            if ((remaining & 1) != 0) {
+                checksum = multiplyMatrix(odd, checksum);
+            }
+            remaining >>= 1;
+        } while (remaining != 0);
+        return checksum ^ secondChecksum;
+    }
+
+    /**
+     * Multiplies a 32 x 32 matrix over GF(2) by a vector.
+     *
+     * @param matrix the matrix, one column per element
+     * @param vector the vector
+     * @return the product
+     */
+    private static long multiplyMatrix(long[] matrix, long vector) {
+        long product = 0;
+        for (int i = 0; vector != 0; i++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                product ^= matrix[i];
+            }
+        }
+        return product;
+    }
+
+    /**
+     * Squares a 32 x 32 matrix over GF(2).
+     *
+     * @param square the matrix to store the result in
+     * @param matrix the matrix to square
+     */
+    private static void squareMatrix(long[] square, long[] matrix) {
+        for (int n = 0; n < Integer.SIZE; n++) {
+            square[n] = multiplyMatrix(matrix, matrix[n]);
+        }
+    }
+
+    /**
+     * Holds what was parsed from one chunk of the file.
+     */
+    private static class Chunk {
+        private final List<Task> tasks = new ArrayList<>();
+        private final CRC32 checksum = new CRC32();
+        private final StringPool descriptions = new StringPool();
+        private long checksumLength;
+        private String checksumLine;
+    }
+}
@@ -0,0 +1,104 @@
+package helix.storage;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces bursts of changes into a single write to storage.
+ *
+ * <p>
+ * Each change only marks the state as dirty. The flush action then runs once the number of unsaved
+ * changes reaches the batch size, or once the flush interval has elapsed since the first unsaved change,
+ * whichever comes first. This bounds how much work can be lost while letting a burst of commands share
+ * one write. A JVM shutdown hook flushes whatever is still pending.
+ * </p>
+ */
+public class PersistenceScheduler {
+    private final Runnable flushAction;
+    private final long flushIntervalMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final Thread shutdownHook;
+
+    private ScheduledFuture<?> scheduledFlush;
+    private int pendingChanges;
+
+    /**
+     * Constructs a PersistenceScheduler.
+     *
+     * @param flushAction         the action that writes all pending changes to storage
+     * @param flushIntervalMillis the longest time, in milliseconds, a change may stay unsaved
+     * @param maxBatchSize        the number of unsaved changes that triggers an immediate flush
+     */
+    public PersistenceScheduler(Runnable flushAction, long flushIntervalMillis, int maxBatchSize) {
+        assert flushIntervalMillis > 0 : "Flush interval must be positive!";
+        assert maxBatchSize > 0 : "Batch size must be positive!";
+        this.flushAction = flushAction;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "helix-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.shutdownHook = new Thread(this::flush, "helix-persistence-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Notes that a change has been made. Flushes on the caller's thread if the batch is full,
+     * otherwise makes sure a flush is scheduled within the flush interval.
+     */
+    public void markDirty() {
+        boolean isBatchFull;
+        synchronized (this) {
+            pendingChanges++;
+            isBatchFull = pendingChanges >= maxBatchSize;
+            if (isBatchFull) {
+                resetPending();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, flushIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (isBatchFull) {
+            flushAction.run();
+        }
+    }
+
+    /**
+     * Writes all pending changes immediately on the caller's thread.
+     */
+    public void flush() {
+        synchronized (this) {
+            resetPending();
+        }
+        flushAction.run();
+    }
+
+    /**
+     * Flushes pending changes and stops the background thread.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, so the hook will run on its own
+        }
+    }
+
+    /**
+     * Clears the unsaved change count and cancels any scheduled flush.
+     * The caller must hold this scheduler's lock.
+     */
+    private void resetPending() {
+        pendingChanges = 0;
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
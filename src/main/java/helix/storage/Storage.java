@@ -1,18 +1,30 @@
 package helix.storage;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
 
+import helix.enums.Durability;
 import helix.enums.TaskStatus;
 import helix.enums.TaskType;
+import helix.task.DateTimeParser;
 import helix.task.Deadline;
 import helix.task.Event;
 import helix.task.Task;
@@ -21,18 +33,74 @@ import helix.task.Todo;
 /**
  * Handles the saving and loading of tasks from a file.
  * The tasks are stored in a plain text file and are serialised / de-serialised using a specific format.
+ *
+ * <p>
+ * Saves follow the configured {@link Durability}: unless it is {@code NONE}, the file is written to a
+ * temporary file next to it and renamed over it, so a crash mid-save leaves the previous version intact.
+ * The last line of the file is a CRC-32 checksum of the task lines, which is checked on load so that a
+ * damaged file is reported instead of silently losing tasks.
+ * </p>
  */
 public class Storage {
+    /**
+     * Marks a line in the storage file as metadata rather than a serialised task.
+     */
+    protected static final String METADATA_PREFIX = "#";
+
+    /**
+     * Starts the metadata line holding the CRC-32 checksum of every task line in the file.
+     */
+    protected static final String CHECKSUM_HEADER = METADATA_PREFIX + " checksum ";
+
+    /**
+     * Encodes every text file written by the storage backends, so that files stay readable across backends.
+     */
+    protected static final Charset CHARSET = Charset.defaultCharset();
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long PARALLEL_LOAD_THRESHOLD = 1 << 22;
+
     private final Path filePath;
+    private final Durability durability;
+    private TaskLineEncoder lineEncoder;
 
     /**
-     * Constructs a {@code Storage} object with the specified file path.
+     * Constructs a {@code Storage} object with the specified file path and the default durability.
      * Ensures the file path always resolves to the `data` directory in the project root.
      *
      * @param filePath the relative path to the helix.storage file
      */
     public Storage(String filePath) {
+        this(filePath, Durability.SYNC);
+    }
+
+    /**
+     * Constructs a {@code Storage} object with the specified file path and durability.
+     *
+     * @param filePath   the relative path to the helix.storage file
+     * @param durability how strongly saves are protected against crashes
+     */
+    public Storage(String filePath, Durability durability) {
         this.filePath = Paths.get(filePath).normalize();
+        this.durability = durability;
+    }
+
+    /**
+     * Retrieves the normalised path of the storage file.
+     *
+     * @return the path of the storage file
+     */
+    protected Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Retrieves how strongly saves are protected against crashes.
+     *
+     * @return the durability level of this storage
+     */
+    protected Durability getDurability() {
+        return durability;
     }
 
     /**
@@ -52,7 +120,7 @@ public class Storage {
      *
      * @throws IOException if an error occurs while creating the file
      */
-    private void ensureFileExists() throws IOException {
+    protected void ensureFileExists() throws IOException {
         if (!Files.exists(filePath)) {
             Files.createDirectories(filePath.getParent());
             Files.createFile(filePath);
@@ -60,19 +128,34 @@ public class Storage {
     }
 
     /**
-     * Reads tasks from the storage file.
+     * Reads tasks from the storage file, verifying its checksum if it has one.
+     * Files of at least {@value #PARALLEL_LOAD_THRESHOLD} bytes are parsed on several threads, if there are
+     * several cores to parse them on.
      *
      * @return a list of tasks loaded from the file
-     * @throws IOException if an error occurs while reading the file
+     * @throws IOException if an error occurs while reading the file or its checksum does not match
      */
     private List<Task> readTasksFromFile() throws IOException {
+        if (ForkJoinPool.getCommonPoolParallelism() > 1 && Files.size(filePath) >= PARALLEL_LOAD_THRESHOLD) {
+            return new ParallelTaskFileReader(ForkJoinPool.commonPool(), CHARSET).read(filePath);
+        }
         List<Task> taskList = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath.toFile()))) {
+        StringPool descriptions = new StringPool();
+        CRC32 checksum = new CRC32();
+        String checksumLine = null;
+        try (BufferedReader br = new BufferedReader(new FileReader(filePath.toFile(), CHARSET))) {
             String line;
             while ((line = br.readLine()) != null) {
-                taskList.add(parseTask(line));
+                if (line.startsWith(CHECKSUM_HEADER)) {
+                    checksumLine = line;
+                } else if (!isMetadataLine(line)) {
+                    byte[] lineBytes = line.getBytes(CHARSET);
+                    updateChecksum(checksum, lineBytes, 0, lineBytes.length);
+                    taskList.add(parseTask(line, descriptions));
+                }
             }
         }
+        verifyChecksum(filePath, checksumLine, checksum);
         return taskList;
     }
 
@@ -88,39 +171,282 @@ public class Storage {
     }
 
     /**
-     * Writes the given tasks to the storage file.
+     * Persists a batch of changes made to the task list, in the order they were made.
+     *
+     * <p>
+     * The default implementation rewrites the whole file once, regardless of how many changes are in the batch.
+     * Subclasses that can persist the changes on their own, such as {@link JournalStorage}, override this method.
+     * </p>
+     *
+     * @param mutations the changes that were made, oldest first
+     * @param taskList the full {@link List} of {@link Task} objects after the changes
+     * @throws IOException if there is an error writing to the file
+     */
+    public void record(List<TaskMutation> mutations, List<Task> taskList) throws IOException {
+        save(taskList);
+    }
+
+    /**
+     * Writes the given tasks to the storage file, followed by their checksum.
      *
      * @param taskList the list of tasks to write
      * @throws IOException if an error occurs while writing to the file
      */
     private void writeTasksToFile(List<Task> taskList) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath.toFile()))) {
+        TaskLineEncoder encoder = getLineEncoder();
+        writeChannelFile(filePath, channel -> {
+            CRC32 checksum = new CRC32();
+            encoder.start(channel);
             for (Task task : taskList) {
-                writer.write(serialiseTask(task));
-                writer.newLine();
+                encoder.writeTask(task, 0, checksum);
             }
+            encoder.writeText(formatChecksumLine(checksum));
+            encoder.finish();
+        });
+    }
+
+    /**
+     * Retrieves the encoder that writes task lines to a file channel, creating it on first use.
+     * The encoder keeps its buffers between saves.
+     *
+     * @return the line encoder of this storage
+     */
+    TaskLineEncoder getLineEncoder() {
+        if (lineEncoder == null) {
+            lineEncoder = new TaskLineEncoder(CHARSET);
+        }
+        return lineEncoder;
+    }
+
+    /**
+     * Writes a file according to the configured durability.
+     * Unless durability is {@code NONE}, the content goes to a temporary file in the same directory,
+     * which then replaces the target in a single rename.
+     *
+     * @param target  the file to write
+     * @param content writes the content of the file
+     * @throws IOException if an error occurs while writing the file
+     */
+    protected void writeFile(Path target, FileContent content) throws IOException {
+        writeChannelFile(target, channel -> writeThroughStream(channel, content));
+    }
+
+    /**
+     * Writes a file according to the configured durability, handing its content a {@link FileChannel}
+     * rather than a stream.
+     *
+     * @param target  the file to write
+     * @param content writes the content of the file
+     * @throws IOException if an error occurs while writing the file
+     * @see #writeFile(Path, FileContent)
+     */
+    protected void writeChannelFile(Path target, ChannelContent content) throws IOException {
+        if (durability == Durability.NONE) {
+            try (FileChannel channel = openForWriting(target)) {
+                content.writeTo(channel);
+            }
+            return;
+        }
+        Path tempPath = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        writeTempChannelFile(tempPath, content);
+        replaceFile(tempPath, target);
+    }
+
+    /**
+     * Writes a temporary file through a {@link FileChannel}, forcing it to disk if durability is {@code SYNC}.
+     *
+     * @param tempPath the temporary file to write, replacing any existing one
+     * @param content  writes the content of the file
+     * @throws IOException if an error occurs while writing the file
+     */
+    protected void writeTempFile(Path tempPath, FileContent content) throws IOException {
+        writeTempChannelFile(tempPath, channel -> writeThroughStream(channel, content));
+    }
+
+    /**
+     * Writes a temporary file, handing its content the {@link FileChannel} of the file directly,
+     * and forces it to disk if durability is {@code SYNC}.
+     *
+     * @param tempPath the temporary file to write, replacing any existing one
+     * @param content  writes the content of the file
+     * @throws IOException if an error occurs while writing the file
+     */
+    private void writeTempChannelFile(Path tempPath, ChannelContent content) throws IOException {
+        try (FileChannel channel = openForWriting(tempPath)) {
+            content.writeTo(channel);
+            if (durability == Durability.SYNC) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Opens a file for writing from the start, creating it or discarding its old content.
+     *
+     * @param path the file to open
+     * @return the channel of the file
+     * @throws IOException if the file cannot be opened
+     */
+    private static FileChannel openForWriting(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes content meant for a stream to a channel, through a buffer that is flushed afterwards.
+     *
+     * @param channel the channel to write to
+     * @param content writes the content
+     * @throws IOException if an error occurs while writing
+     */
+    private static void writeThroughStream(FileChannel channel, FileContent content) throws IOException {
+        OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+        content.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Atomically renames a fully written file over the target. If durability is {@code SYNC},
+     * the directory is forced to disk as well so that the rename itself survives a power loss.
+     *
+     * @param source the fully written file
+     * @param target the file to replace
+     * @throws IOException if the file cannot be moved
+     */
+    protected void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (durability == Durability.SYNC) {
+            syncDirectory(target.toAbsolutePath().getParent());
         }
     }
 
+    /**
+     * Forces a directory's entries to disk. Platforms that cannot open directories, such as Windows,
+     * are skipped, as their rename is already durable once it returns.
+     *
+     * @param directory the directory to force
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or forced on this platform
+        }
+    }
+
+    /**
+     * Adds one task line to a running checksum. The line terminator is counted as a single {@code '\n'},
+     * so the checksum is the same whichever line separator the file was written with.
+     *
+     * @param checksum the running checksum
+     * @param line     the encoded line, without its terminator
+     * @param offset   the index of the first byte of the line
+     * @param length   the number of bytes in the line
+     */
+    protected static void updateChecksum(CRC32 checksum, byte[] line, int offset, int length) {
+        checksum.update(line, offset, length);
+        checksum.update('\n');
+    }
+
+    /**
+     * Formats the metadata line that records a checksum.
+     *
+     * @param checksum the checksum of every task line
+     * @return the checksum line, without its terminator
+     */
+    protected static String formatChecksumLine(CRC32 checksum) {
+        return CHECKSUM_HEADER + String.format(Locale.ROOT, "%08x", checksum.getValue());
+    }
+
+    /**
+     * Checks that the task lines read from a file match the checksum recorded in it.
+     * Files without a checksum line, such as those written by older versions, are accepted as they are.
+     *
+     * @param path         the file that was read, for the error message
+     * @param checksumLine the checksum line found in the file, or {@code null} if there was none
+     * @param checksum     the checksum computed over the task lines that were read
+     * @throws IOException if the checksums do not match
+     */
+    protected static void verifyChecksum(Path path, String checksumLine, CRC32 checksum) throws IOException {
+        verifyChecksum(path, checksumLine, checksum.getValue());
+    }
+
+    /**
+     * Checks that the task lines read from a file match the checksum recorded in it.
+     *
+     * @param path          the file that was read, for the error message
+     * @param checksumLine  the checksum line found in the file, or {@code null} if there was none
+     * @param checksumValue the CRC-32 computed over the task lines that were read
+     * @throws IOException if the checksums do not match
+     */
+    protected static void verifyChecksum(Path path, String checksumLine, long checksumValue) throws IOException {
+        if (checksumLine == null) {
+            return;
+        }
+        String expected = checksumLine.substring(CHECKSUM_HEADER.length()).trim();
+        if (!expected.equalsIgnoreCase(String.format(Locale.ROOT, "%08x", checksumValue))) {
+            throw new IOException("Checksum mismatch in " + path + ": the file is damaged or was edited by hand. "
+                    + "If you edited it on purpose, delete its '" + CHECKSUM_HEADER.trim() + "' line and try again.");
+        }
+    }
+
+    /**
+     * Checks whether a line of the storage file holds metadata instead of a task.
+     *
+     * @param line the line to check
+     * @return true if the line is a metadata line, false otherwise
+     */
+    protected static boolean isMetadataLine(String line) {
+        return line.startsWith(METADATA_PREFIX);
+    }
+
     /**
      * Parses a {@link Task} from its string representation.
-     * The string must follow the format: {@code TaskType | TaskStatus | Description | [Additional Details]}.
+     * The string must follow the format: {@code [ID | ]TaskType | TaskStatus | Description | [Additional Details]},
+     * where the task status may be padded with trailing spaces.
+     * Lines written before tasks had IDs have no ID field, and their tasks are left without an ID.
      *
      * @param line the string representing the helix.task in helix.storage
      * @return the parsed {@link Task} object
      * @throws IllegalArgumentException if the string is invalid or cannot be parsed
      */
-    private static Task parseTask(String line) {
+    protected static Task parseTask(String line) {
+        return parseTask(line, null);
+    }
+
+    /**
+     * Parses a {@link Task} from its string representation, sharing its description with equal
+     * descriptions already in the pool.
+     *
+     * @param line         the string representing the helix.task in helix.storage
+     * @param descriptions the pool of descriptions read so far, or {@code null} to not pool them
+     * @return the parsed {@link Task} object
+     * @throws IllegalArgumentException if the string is invalid or cannot be parsed
+     */
+    static Task parseTask(String line, StringPool descriptions) {
         try {
+            int id = 0;
+            if (!line.isEmpty() && Character.isDigit(line.charAt(0))) {
+                int idEnd = line.indexOf(" | ");
+                id = Integer.parseInt(line.substring(0, idEnd));
+                line = line.substring(idEnd + " | ".length());
+            }
             String[] parts = line.split(" \\| ");
             TaskType taskType = TaskType.valueOf(parts[0]);
-            TaskStatus taskStatus = TaskStatus.valueOf(parts[1]);
-            String description = parts[2];
+            TaskStatus taskStatus = TaskStatus.valueOf(parts[1].trim());
+            String description = descriptions == null ? parts[2] : descriptions.intern(parts[2]);
 
             Task task = createTaskByType(taskType, description, parts);
             if (taskStatus == TaskStatus.COMPLETED) {
                 task.markAsDone();
             }
+            if (id > 0) {
+                task.setId(id);
+            }
             return task;
         } catch (Exception e) {
             throw new IllegalArgumentException("Error parsing task: " + line, e);
@@ -138,34 +464,73 @@ public class Storage {
     private static Task createTaskByType(TaskType taskType, String description, String[] parts) {
         return switch (taskType) {
         case TODO -> new Todo(description);
-        case DEADLINE -> new Deadline(description, parts[3]);
+        case DEADLINE -> new Deadline(description, parseStoredDateTime(parts[3]));
         case EVENT -> {
             String[] eventDuration = parts[3].split(" - ");
-            yield new Event(description, eventDuration[0], eventDuration[1]);
+            yield new Event(description, parseStoredDateTime(eventDuration[0]),
+                    parseStoredDateTime(eventDuration[1]));
         }
         };
     }
 
+    /**
+     * Parses a date-time stored in a task line.
+     *
+     * @param dateTime the stored date-time
+     * @return the parsed date-time
+     * @throws IllegalArgumentException if the date-time is not in a supported format
+     */
+    private static LocalDateTime parseStoredDateTime(String dateTime) {
+        LocalDateTime parsed = DateTimeParser.parse(dateTime);
+        if (parsed == null) {
+            throw new IllegalArgumentException("Invalid date: " + dateTime);
+        }
+        return parsed;
+    }
+
     /**
      * Serialises a {@link Task} into its string representation.
-     * The format is: {@code TaskType | TaskStatus | Description | [Additional Details]}.
+     * The format is: {@code [ID | ]TaskType | TaskStatus | Description | [Additional Details]},
+     * where the ID is left out for tasks that have not been assigned one.
      *
      * @param task the {@link Task} to serialise
      * @return the string representation of the helix.task
      */
-    private static String serialiseTask(Task task) {
+    protected static String serialiseTask(Task task) {
+        return serialiseTask(task, 0);
+    }
+
+    /**
+     * Serialises a {@link Task} into its string representation, padding the completion status with spaces
+     * to the given width so that marking the task as done or undone does not change the length of its line.
+     *
+     * @param task        the {@link Task} to serialise
+     * @param statusWidth the minimum number of characters of the completion status field
+     * @return the string representation of the helix.task
+     */
+    protected static String serialiseTask(Task task, int statusWidth) {
         StringBuilder sb = new StringBuilder();
 
+        // Stable ID (if any)
+        if (task.getId() > 0) {
+            sb.append(task.getId());
+            sb.append(" | ");
+        }
+
         // Task Type
         TaskType taskType = task.getTaskType();
         sb.append(taskType);
         sb.append(" | ");
         // Completion status
+        int statusStart = sb.length();
         sb.append(
                 task.getTaskStatus() == TaskStatus.COMPLETED
                         ? TaskStatus.COMPLETED
                         : TaskStatus.PENDING
         );
+        while (sb.length() - statusStart < statusWidth) {
+            sb.append(' ');
+        }
         sb.append(" | ");
         // Task description
         sb.append(task.getDescription());
@@ -177,4 +542,32 @@ public class Storage {
         }
         return sb.toString();
     }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    protected interface FileContent {
+        /**
+         * Writes the content to the given stream, which is flushed and closed by the caller.
+         *
+         * @param out the stream to write to
+         * @throws IOException if an error occurs while writing
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Writes the content of a file straight to its channel.
+     */
+    @FunctionalInterface
+    protected interface ChannelContent {
+        /**
+         * Writes the content to the given channel, which is closed by the caller.
+         *
+         * @param channel the channel to write to, positioned at the start of the file
+         * @throws IOException if an error occurs while writing
+         */
+        void writeTo(FileChannel channel) throws IOException;
+    }
 }
@@ -0,0 +1,39 @@
+package helix.storage;
+
+import helix.enums.Durability;
+import helix.enums.StorageMode;
+
+/**
+ * Creates {@code Storage} instances based on the configured {@link StorageMode}.
+ */
+public class StorageFactory {
+
+    /**
+     * Creates a {@link Storage} backend for the given mode with the default durability.
+     *
+     * @param storageMode the persistence strategy to use
+     * @param filePath    the path of the task file
+     * @return a {@link Storage} instance corresponding to the mode
+     */
+    public static Storage createStorage(StorageMode storageMode, String filePath) {
+        return createStorage(storageMode, filePath, Durability.SYNC);
+    }
+
+    /**
+     * Creates a {@link Storage} backend for the given mode and durability.
+     *
+     * @param storageMode the persistence strategy to use
+     * @param filePath    the path of the task file
+     * @param durability  how strongly saves are protected against crashes
+     * @return a {@link Storage} instance corresponding to the mode
+     */
+    public static Storage createStorage(StorageMode storageMode, String filePath, Durability durability) {
+        return switch (storageMode) {
+        case TEXT -> new Storage(filePath, durability);
+        case JOURNAL -> new JournalStorage(filePath, durability);
+        case BINARY -> new BinaryStorage(filePath, durability);
+        case LAZY -> new LazyStorage(filePath, durability);
+        case INCREMENTAL -> new IncrementalStorage(filePath, durability);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package helix.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shares a single {@link String} instance between equal strings read while loading a task file,
+ * so that a description repeated across many tasks is only held in memory once.
+ *
+ * <p>
+ * A pool only lives for the duration of one load, so strings are not kept alive after the tasks that use
+ * them are removed.
+ * </p>
+ */
+class StringPool {
+    private final Map<String, String> strings = new HashMap<>();
+
+    /**
+     * Retrieves the pooled instance equal to the given string, adding the string if there is none.
+     *
+     * @param string the string to look up
+     * @return the pooled instance equal to {@code string}
+     */
+    String intern(String string) {
+        String pooled = strings.putIfAbsent(string, string);
+        return pooled == null ? string : pooled;
+    }
+}
@@ -0,0 +1,310 @@
+package helix.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.zip.CRC32;
+
+import helix.enums.TaskStatus;
+import helix.enums.TaskType;
+import helix.task.Task;
+
+/**
+ * Encodes task lines straight into direct byte buffers and writes them to a file channel.
+ *
+ * <p>
+ * Each line is built field by field in the same format as {@link Storage#serialiseTask(Task, int)}, without
+ * creating a {@code String} for it. The fixed parts of a line are encoded once up front, and descriptions and
+ * details that are plain ASCII, as most are, are copied one character at a time. A line is assembled in a byte
+ * array and then copied into the direct buffers in one bulk copy, as single-byte writes to a buffer are much
+ * slower than to an array. Full direct buffers are handed to the channel together in a single gathering
+ * write. All buffers are kept between saves, so an encoder should be reused rather than created for each save.
+ * An encoder is not safe for use by several threads at once.
+ * </p>
+ */
+class TaskLineEncoder {
+    private static final int BUFFER_COUNT = 4;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] FIELD_SEPARATOR = {' ', '|', ' '};
+    private static final int MAX_ID_DIGITS = 10;
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private final CharsetEncoder encoder;
+    private final boolean isAsciiCompatible;
+    private final byte[] lineSeparator;
+    private final byte[][] taskTypeNames;
+    private final byte[][] taskStatusNames;
+    private final ByteBuffer[] buffers = new ByteBuffer[BUFFER_COUNT];
+
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int lineLength;
+    private FileChannel channel;
+    private int currentBuffer;
+
+    /**
+     * Constructs a {@code TaskLineEncoder} for the given character set.
+     *
+     * @param charset the character set the task file is encoded in
+     */
+    TaskLineEncoder(Charset charset) {
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.isAsciiCompatible = isAsciiCompatible(charset);
+        this.lineSeparator = System.lineSeparator().getBytes(charset);
+        this.taskTypeNames = new byte[TaskType.values().length][];
+        for (TaskType taskType : TaskType.values()) {
+            taskTypeNames[taskType.ordinal()] = taskType.toString().getBytes(charset);
+        }
+        this.taskStatusNames = new byte[TaskStatus.values().length][];
+        for (TaskStatus taskStatus : TaskStatus.values()) {
+            taskStatusNames[taskStatus.ordinal()] = taskStatus.toString().getBytes(charset);
+        }
+    }
+
+    /**
+     * Starts writing lines to the given channel, allocating the buffers on first use.
+     *
+     * @param channel the channel to write to, positioned where the first line should go
+     */
+    void start(FileChannel channel) {
+        if (buffers[0] == null) {
+            for (int i = 0; i < BUFFER_COUNT; i++) {
+                buffers[i] = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            }
+        }
+        for (ByteBuffer buffer : buffers) {
+            buffer.clear();
+        }
+        this.channel = channel;
+        this.currentBuffer = 0;
+    }
+
+    /**
+     * Encodes one task line, followed by the line separator.
+     *
+     * @param task        the task to encode
+     * @param statusWidth the minimum number of characters of the completion status field
+     * @param checksum    the running checksum to add the line to, or null to leave it out of any checksum
+     * @return the length of the line in bytes, without the line separator
+     * @throws IOException if full buffers could not be written to the channel
+     */
+    int writeTask(Task task, int statusWidth, CRC32 checksum) throws IOException {
+        String description = task.getDescription();
+        TaskType taskType = task.getTaskType();
+        String details = taskType == TaskType.DEADLINE || taskType == TaskType.EVENT ? task.getTaskDetails() : null;
+        int maxLength = MAX_ID_DIGITS + taskTypeNames[taskType.ordinal()].length
+                + Math.max(statusWidth, taskStatusNames[TaskStatus.PENDING.ordinal()].length)
+                + 4 * FIELD_SEPARATOR.length
+                + maxEncodedLength(description) + (details == null ? 0 : maxEncodedLength(details));
+        clearLine(maxLength);
+
+        if (task.getId() > 0) {
+            putDigits(task.getId());
+            putBytes(FIELD_SEPARATOR);
+        }
+        putBytes(taskTypeNames[taskType.ordinal()]);
+        putBytes(FIELD_SEPARATOR);
+        TaskStatus taskStatus = task.getTaskStatus() == TaskStatus.COMPLETED
+                ? TaskStatus.COMPLETED
+                : TaskStatus.PENDING;
+        byte[] statusName = taskStatusNames[taskStatus.ordinal()];
+        putBytes(statusName);
+        for (int i = statusName.length; i < statusWidth; i++) {
+            line[lineLength++] = ' ';
+        }
+        putBytes(FIELD_SEPARATOR);
+        putText(description);
+        if (details != null) {
+            putBytes(FIELD_SEPARATOR);
+            putText(details);
+        }
+
+        int encodedLength = lineLength;
+        if (checksum != null) {
+            checksum.update(line, 0, encodedLength);
+            checksum.update('\n');
+        }
+        copyLine();
+        return encodedLength;
+    }
+
+    /**
+     * Encodes a line of text, such as a metadata line, followed by the line separator.
+     *
+     * @param text the line to encode, without its terminator
+     * @throws IOException if full buffers could not be written to the channel
+     */
+    void writeText(String text) throws IOException {
+        clearLine(maxEncodedLength(text));
+        putText(text);
+        copyLine();
+    }
+
+    /**
+     * Writes every line encoded since the last write to the channel.
+     *
+     * @throws IOException if the lines could not be written
+     */
+    void finish() throws IOException {
+        writeBuffers();
+        channel = null;
+    }
+
+    /**
+     * Empties the line array, growing it first if it cannot hold a line of the given length and its terminator.
+     *
+     * @param maxLength the largest number of bytes the next line can take, without its terminator
+     */
+    private void clearLine(int maxLength) {
+        int capacity = maxLength + lineSeparator.length;
+        if (line.length < capacity) {
+            line = new byte[Math.max(capacity, line.length * 2)];
+        }
+        lineLength = 0;
+    }
+
+    /**
+     * Copies the line in the line array, followed by the line separator, into the direct buffers,
+     * writing the direct buffers out first if none of them has room. A line longer than a whole direct buffer
+     * is written to the channel straight from the line array.
+     *
+     * @throws IOException if the buffers could not be written to the channel
+     */
+    private void copyLine() throws IOException {
+        putBytes(lineSeparator);
+        if (lineLength > BUFFER_SIZE) {
+            writeBuffers();
+            ByteBuffer largeLine = ByteBuffer.wrap(line, 0, lineLength);
+            while (largeLine.hasRemaining()) {
+                channel.write(largeLine);
+            }
+            return;
+        }
+        if (buffers[currentBuffer].remaining() < lineLength) {
+            if (currentBuffer == BUFFER_COUNT - 1) {
+                writeBuffers();
+            } else {
+                currentBuffer++;
+            }
+        }
+        buffers[currentBuffer].put(line, 0, lineLength);
+    }
+
+    /**
+     * Writes the filled buffers to the channel in one gathering write and clears them for reuse.
+     *
+     * @throws IOException if the buffers could not be written
+     */
+    private void writeBuffers() throws IOException {
+        int bufferCount = currentBuffer + 1;
+        long remaining = 0;
+        for (int i = 0; i < bufferCount; i++) {
+            buffers[i].flip();
+            remaining += buffers[i].remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers, 0, bufferCount);
+        }
+        for (int i = 0; i < bufferCount; i++) {
+            buffers[i].clear();
+        }
+        currentBuffer = 0;
+    }
+
+    /**
+     * Computes the largest number of bytes a piece of text can take once encoded.
+     *
+     * @param text the text to encode
+     * @return the largest encoded length in bytes
+     */
+    private int maxEncodedLength(String text) {
+        return (int) Math.ceil(encoder.maxBytesPerChar() * text.length());
+    }
+
+    /**
+     * Appends bytes that are already encoded to the line.
+     *
+     * @param bytes the bytes to append
+     */
+    private void putBytes(byte[] bytes) {
+        System.arraycopy(bytes, 0, line, lineLength, bytes.length);
+        lineLength += bytes.length;
+    }
+
+    /**
+     * Appends a positive number to the line as decimal digits.
+     *
+     * @param number the number to append
+     */
+    private void putDigits(int number) {
+        int digitCount = 1;
+        for (int rest = number / 10; rest > 0; rest /= 10) {
+            digitCount++;
+        }
+        lineLength += digitCount;
+        for (int i = lineLength - 1; i >= lineLength - digitCount; i--) {
+            line[i] = (byte) ('0' + number % 10);
+            number /= 10;
+        }
+    }
+
+    /**
+     * Appends a piece of text to the line, copying plain ASCII characters directly and passing the rest of
+     * the text to the character set's encoder from the first character that is not.
+     *
+     * @param text the text to append, for which the line has room
+     */
+    private void putText(String text) {
+        int length = text.length();
+        int i = 0;
+        if (isAsciiCompatible) {
+            for (; i < length; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                line[lineLength + i] = (byte) c;
+            }
+            lineLength += i;
+        }
+        if (i < length) {
+            ByteBuffer rest = ByteBuffer.wrap(line, lineLength, line.length - lineLength);
+            encoder.reset();
+            CoderResult result = encoder.encode(CharBuffer.wrap(text, i, length), rest, true);
+            if (result.isOverflow()) {
+                throw new IllegalStateException("Not enough room reserved for the encoded text");
+            }
+            encoder.flush(rest);
+            lineLength = rest.position();
+        }
+    }
+
+    /**
+     * Checks whether the character set encodes every ASCII character as the single byte of the same value.
+     *
+     * @param charset the character set to check
+     * @return true if ASCII text can be copied into the buffer as it is, false otherwise
+     */
+    private static boolean isAsciiCompatible(Charset charset) {
+        char[] ascii = new char[0x80];
+        for (int i = 0; i < ascii.length; i++) {
+            ascii[i] = (char) i;
+        }
+        byte[] encoded = new String(ascii).getBytes(charset);
+        if (encoded.length != ascii.length) {
+            return false;
+        }
+        for (int i = 0; i < encoded.length; i++) {
+            if (encoded[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package helix.storage;
+
+import helix.enums.MutationType;
+import helix.task.Task;
+
+/**
+ * Describes a single change made to a task list, so that storage backends can persist
+ * the change itself instead of the entire list.
+ */
+public class TaskMutation {
+    private final MutationType mutationType;
+    private final int taskIndex;
+    private final Task task;
+
+    /**
+     * Constructs a TaskMutation.
+     *
+     * @param mutationType the kind of change
+     * @param taskIndex    the 0-based index of the affected task
+     * @param task         the affected task after the change, or {@code null} for removals
+     */
+    public TaskMutation(MutationType mutationType, int taskIndex, Task task) {
+        this.mutationType = mutationType;
+        this.taskIndex = taskIndex;
+        this.task = task;
+    }
+
+    /**
+     * Retrieves the kind of change.
+     *
+     * @return the mutation type
+     */
+    public MutationType getMutationType() {
+        return mutationType;
+    }
+
+    /**
+     * Retrieves the index of the affected task.
+     *
+     * @return the 0-based task index
+     */
+    public int getTaskIndex() {
+        return taskIndex;
+    }
+
+    /**
+     * Retrieves the affected task.
+     *
+     * @return the task, or {@code null} if the task was removed
+     */
+    public Task getTask() {
+        return task;
+    }
+}
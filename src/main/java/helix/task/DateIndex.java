@@ -0,0 +1,294 @@
+package helix.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Indexes deadlines by due date and events by start time for time-window queries.
+ *
+ * <p>
+ * Deadlines due within a window are a sub-range of the due date map. Events are kept in an interval tree:
+ * a balanced binary search tree ordered by start time, in which every node also records the latest end time
+ * in its subtree. An overlap query skips every subtree that ends before the window and every event that
+ * starts after it, so it takes logarithmic time for each event it returns, however long the events are.
+ * The tree is a treap, which stays balanced on average by giving each node a random priority.
+ * </p>
+ */
+public class DateIndex {
+    private final NavigableMap<LocalDateTime, List<Task>> deadlinesByDueDate = new TreeMap<>();
+    private final Map<Task, EventNode> eventNodes = new IdentityHashMap<>();
+    private final SplittableRandom priorities = new SplittableRandom();
+    private EventNode eventRoot;
+    private long nextEventSequence;
+
+    /**
+     * Adds a task to the index. Todos are ignored as they have no dates.
+     *
+     * @param task the task to index
+     */
+    public void add(Task task) {
+        if (task instanceof Deadline deadline) {
+            deadlinesByDueDate.computeIfAbsent(deadline.getDueDate(), key -> new ArrayList<>()).add(task);
+        } else if (task instanceof Event event) {
+            EventNode node = new EventNode(event, nextEventSequence++, priorities.nextLong());
+            eventNodes.put(task, node);
+            eventRoot = insert(eventRoot, node);
+        }
+    }
+
+    /**
+     * Removes a task from the index. Must be called before the task's dates are changed.
+     *
+     * @param task the task to remove
+     */
+    public void remove(Task task) {
+        if (task instanceof Deadline deadline) {
+            removeFrom(deadlinesByDueDate, deadline.getDueDate(), task);
+        } else if (task instanceof Event) {
+            EventNode node = eventNodes.remove(task);
+            if (node != null) {
+                eventRoot = delete(eventRoot, node);
+            }
+        }
+    }
+
+    /**
+     * Finds all deadlines due within the given window, inclusive of both ends.
+     *
+     * @param from the start of the window
+     * @param to   the end of the window
+     * @return the matching deadlines, ordered by due date
+     */
+    public List<Task> findDeadlinesDue(LocalDateTime from, LocalDateTime to) {
+        return flatten(deadlinesByDueDate.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Finds all events that overlap the given window, inclusive of both ends.
+     *
+     * @param from the start of the window
+     * @param to   the end of the window
+     * @return the matching events, ordered by start time, then by the order they were added
+     */
+    public List<Task> findEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Task> matches = new ArrayList<>();
+        collectOverlapping(eventRoot, DateTimeParser.toEpochMinute(from), DateTimeParser.toEpochMinute(to), matches);
+        return matches;
+    }
+
+    /**
+     * Adds the events in a subtree that overlap the window to the matches, in tree order.
+     *
+     * @param node       the root of the subtree
+     * @param fromMinute the start of the window, in epoch minutes
+     * @param toMinute   the end of the window, in epoch minutes
+     * @param matches    the matches found so far
+     */
+    private static void collectOverlapping(EventNode node, long fromMinute, long toMinute, List<Task> matches) {
+        if (node == null || node.maxEndMinute < fromMinute) {
+            return;
+        }
+        collectOverlapping(node.left, fromMinute, toMinute, matches);
+        if (node.startMinute > toMinute) {
+            // This event and everything to its right start after the window
+            return;
+        }
+        if (node.endMinute >= fromMinute) {
+            matches.add(node.event);
+        }
+        collectOverlapping(node.right, fromMinute, toMinute, matches);
+    }
+
+    /**
+     * Inserts a node into a subtree, rotating it up while its priority is higher than its parent's.
+     *
+     * @param root the root of the subtree
+     * @param node the node to insert
+     * @return the new root of the subtree
+     */
+    private static EventNode insert(EventNode root, EventNode node) {
+        if (root == null) {
+            return node;
+        }
+        if (node.compareTo(root) < 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                return rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                return rotateLeft(root);
+            }
+        }
+        root.updateMaxEnd();
+        return root;
+    }
+
+    /**
+     * Deletes a node from a subtree, replacing it with the merge of its children.
+     *
+     * @param root the root of the subtree
+     * @param node the node to delete, which must be in the subtree
+     * @return the new root of the subtree
+     */
+    private static EventNode delete(EventNode root, EventNode node) {
+        if (root == node) {
+            return merge(root.left, root.right);
+        }
+        if (node.compareTo(root) < 0) {
+            root.left = delete(root.left, node);
+        } else {
+            root.right = delete(root.right, node);
+        }
+        root.updateMaxEnd();
+        return root;
+    }
+
+    /**
+     * Merges two subtrees where every node of the first comes before every node of the second.
+     *
+     * @param left  the earlier subtree
+     * @param right the later subtree
+     * @return the root of the merged subtree
+     */
+    private static EventNode merge(EventNode left, EventNode right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxEnd();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateMaxEnd();
+        return right;
+    }
+
+    /**
+     * Rotates a subtree to the right, making its left child the new root.
+     *
+     * @param root the root of the subtree
+     * @return the new root of the subtree
+     */
+    private static EventNode rotateRight(EventNode root) {
+        EventNode newRoot = root.left;
+        root.left = newRoot.right;
+        newRoot.right = root;
+        root.updateMaxEnd();
+        newRoot.updateMaxEnd();
+        return newRoot;
+    }
+
+    /**
+     * Rotates a subtree to the left, making its right child the new root.
+     *
+     * @param root the root of the subtree
+     * @return the new root of the subtree
+     */
+    private static EventNode rotateLeft(EventNode root) {
+        EventNode newRoot = root.right;
+        root.right = newRoot.left;
+        newRoot.left = root;
+        root.updateMaxEnd();
+        newRoot.updateMaxEnd();
+        return newRoot;
+    }
+
+    /**
+     * Removes a task from the bucket for the given date, dropping the bucket once it is empty.
+     *
+     * @param index the map to remove from
+     * @param date  the date the task is indexed under
+     * @param task  the task to remove
+     */
+    private static void removeFrom(NavigableMap<LocalDateTime, List<Task>> index, LocalDateTime date, Task task) {
+        List<Task> bucket = index.get(date);
+        if (bucket == null) {
+            return;
+        }
+        bucket.removeIf(indexed -> indexed == task);
+        if (bucket.isEmpty()) {
+            index.remove(date);
+        }
+    }
+
+    /**
+     * Concatenates date buckets in order.
+     *
+     * @param buckets the buckets to concatenate
+     * @return a single list of tasks
+     */
+    private static List<Task> flatten(Collection<List<Task>> buckets) {
+        List<Task> tasks = new ArrayList<>();
+        for (List<Task> bucket : buckets) {
+            tasks.addAll(bucket);
+        }
+        return tasks;
+    }
+
+    /**
+     * Holds an event in the interval tree, with the latest end time of any event in its subtree.
+     */
+    private static class EventNode {
+        private final Task event;
+        private final long startMinute;
+        private final long endMinute;
+        private final long sequence;
+        private final long priority;
+        private long maxEndMinute;
+        private EventNode left;
+        private EventNode right;
+
+        /**
+         * Constructs an {@code EventNode} for an event, using its dates at the time it is added.
+         *
+         * @param event    the event to hold
+         * @param sequence the number of events added before it, which orders events starting at the same time
+         * @param priority the random priority that keeps the tree balanced
+         */
+        EventNode(Event event, long sequence, long priority) {
+            this.event = event;
+            this.startMinute = event.getStartMinute();
+            this.endMinute = event.getEndMinute();
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEndMinute = endMinute;
+        }
+
+        /**
+         * Compares the position of two nodes in the tree, by start time and then by the order they were added.
+         *
+         * @param other the node to compare with
+         * @return a negative number, zero or a positive number as this node comes before, at or after the other
+         */
+        int compareTo(EventNode other) {
+            int byStart = Long.compare(startMinute, other.startMinute);
+            return byStart != 0 ? byStart : Long.compare(sequence, other.sequence);
+        }
+
+        /**
+         * Recomputes the latest end time in the subtree after its children changed.
+         */
+        void updateMaxEnd() {
+            maxEndMinute = endMinute;
+            if (left != null) {
+                maxEndMinute = Math.max(maxEndMinute, left.maxEndMinute);
+            }
+            if (right != null) {
+                maxEndMinute = Math.max(maxEndMinute, right.maxEndMinute);
+            }
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package helix.task;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Parses the date-time formats accepted by Helix without trying formatters one after another.
+ *
+ * <p>
+ * The format is recognised from the shape of the input: a leading letter means the storage format
+ * {@code MMM dd yyyy, h:mm a}, a dash after four digits means {@code yyyy-MM-dd HHmm}, and anything else
+ * is read as {@code d/M/yyyy HHmm}. Fields are read in a single pass and invalid input yields {@code null}
+ * rather than an exception, so a failed attempt costs no more than a successful one. As with
+ * {@link DateTimeFormatter}'s default resolver, a day past the end of its month is clamped to the last day
+ * and {@code 2400} means midnight at the end of the day.
+ * </p>
+ */
+public final class DateTimeParser {
+    /** Formats date-times the way they are displayed and stored, e.g. {@code Oct 11 2019, 5:00 PM}. */
+    public static final DateTimeFormatter STORAGE_FORMATTER =
+            DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a", Locale.ENGLISH);
+
+    private static final String MONTH_NAMES = "janfebmaraprmayjunjulaugsepoctnovdec";
+    private static final int ISO_LENGTH = "yyyy-MM-dd HHmm".length();
+
+    private DateTimeParser() {
+    }
+
+    /**
+     * Parses a date-time in any of the supported formats.
+     *
+     * @param text the text to parse
+     * @return the parsed date-time, or {@code null} if the text is not in a supported format
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        if (isLetter(text.charAt(0))) {
+            return parseStorageFormat(text);
+        }
+        if (text.length() > 4 && text.charAt(4) == '-') {
+            return parseIsoFormat(text);
+        }
+        return parseSlashFormat(text);
+    }
+
+    /**
+     * Converts a date-time into the number of minutes since the epoch, which is how tasks hold their dates.
+     * Seconds and smaller units are dropped, as every supported format is precise to the minute.
+     *
+     * @param dateTime the date-time to convert
+     * @return the number of minutes since 1970-01-01T00:00
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Converts a number of minutes since the epoch back into a date-time.
+     *
+     * @param epochMinute the number of minutes since 1970-01-01T00:00
+     * @return the corresponding date-time
+     */
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses a date-time in the format {@code d/M/yyyy HHmm}, e.g. {@code 2/12/2019 1800}.
+     *
+     * @param text the text to parse
+     * @return the parsed date-time, or {@code null} if the text does not match
+     */
+    private static LocalDateTime parseSlashFormat(CharSequence text) {
+        int dayEnd = findDigitsEnd(text, 0);
+        if (dayEnd < 1 || dayEnd > 2 || !isCharAt(text, dayEnd, '/')) {
+            return null;
+        }
+        int monthEnd = findDigitsEnd(text, dayEnd + 1);
+        int monthWidth = monthEnd - dayEnd - 1;
+        if (monthWidth < 1 || monthWidth > 2 || !isCharAt(text, monthEnd, '/')) {
+            return null;
+        }
+        int yearStart = monthEnd + 1;
+        if (text.length() != yearStart + "yyyy HHmm".length() || !isCharAt(text, yearStart + 4, ' ')) {
+            return null;
+        }
+        return toDateTime(
+                readNumber(text, yearStart, 4),
+                readNumber(text, dayEnd + 1, monthWidth),
+                readNumber(text, 0, dayEnd),
+                readNumber(text, yearStart + 5, 2),
+                readNumber(text, yearStart + 7, 2));
+    }
+
+    /**
+     * Parses a date-time in the format {@code yyyy-MM-dd HHmm}, e.g. {@code 2019-10-15 1800}.
+     *
+     * @param text the text to parse
+     * @return the parsed date-time, or {@code null} if the text does not match
+     */
+    private static LocalDateTime parseIsoFormat(CharSequence text) {
+        if (text.length() != ISO_LENGTH || text.charAt(7) != '-' || text.charAt(10) != ' ') {
+            return null;
+        }
+        return toDateTime(
+                readNumber(text, 0, 4),
+                readNumber(text, 5, 2),
+                readNumber(text, 8, 2),
+                readNumber(text, 11, 2),
+                readNumber(text, 13, 2));
+    }
+
+    /**
+     * Parses a date-time in the storage format {@code MMM dd yyyy, h:mm a}, e.g. {@code Oct 11 2019, 5:00 PM}.
+     * The month and the AM/PM marker are matched ignoring case.
+     *
+     * @param text the text to parse
+     * @return the parsed date-time, or {@code null} if the text does not match
+     */
+    private static LocalDateTime parseStorageFormat(CharSequence text) {
+        if (text.length() < 12 || text.charAt(3) != ' ' || text.charAt(6) != ' '
+                || text.charAt(11) != ',' || !isCharAt(text, 12, ' ')) {
+            return null;
+        }
+        int hourEnd = findDigitsEnd(text, 13);
+        int hourWidth = hourEnd - 13;
+        if (hourWidth < 1 || hourWidth > 2 || text.length() != hourEnd + ":mm AM".length()
+                || text.charAt(hourEnd) != ':' || text.charAt(hourEnd + 3) != ' ') {
+            return null;
+        }
+        int month = readMonth(text);
+        int clockHour = readNumber(text, 13, hourWidth);
+        if (clockHour < 1 || clockHour > 12 || toLowerCase(text.charAt(hourEnd + 5)) != 'm') {
+            return null;
+        }
+        int hour;
+        char marker = toLowerCase(text.charAt(hourEnd + 4));
+        if (marker == 'a') {
+            hour = clockHour % 12;
+        } else if (marker == 'p') {
+            hour = clockHour % 12 + 12;
+        } else {
+            return null;
+        }
+        return toDateTime(
+                readNumber(text, 7, 4),
+                month,
+                readNumber(text, 4, 2),
+                hour,
+                readNumber(text, hourEnd + 1, 2));
+    }
+
+    /**
+     * Combines parsed fields into a date-time after checking their ranges.
+     *
+     * @param year the year, or -1 if it could not be read
+     * @param month the month of the year, or -1 if it could not be read
+     * @param day the day of the month, or -1 if it could not be read
+     * @param hour the hour of the day, or -1 if it could not be read
+     * @param minute the minute of the hour, or -1 if it could not be read
+     * @return the date-time, or {@code null} if any field is out of range
+     */
+    private static LocalDateTime toDateTime(int year, int month, int day, int hour, int minute) {
+        boolean isEndOfDay = hour == 24 && minute == 0;
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31
+                || hour < 0 || (hour > 23 && !isEndOfDay) || minute < 0 || minute > 59) {
+            return null;
+        }
+        int lastDay = Month.of(month).length(Year.isLeap(year));
+        if (isEndOfDay) {
+            return LocalDateTime.of(year, month, Math.min(day, lastDay), 0, 0).plusDays(1);
+        }
+        return LocalDateTime.of(year, month, Math.min(day, lastDay), hour, minute);
+    }
+
+    /**
+     * Reads a three-letter English month abbreviation at the start of the text, ignoring case.
+     *
+     * @param text the text to read from
+     * @return the month of the year, or -1 if there is no month abbreviation
+     */
+    private static int readMonth(CharSequence text) {
+        char first = toLowerCase(text.charAt(0));
+        char second = toLowerCase(text.charAt(1));
+        char third = toLowerCase(text.charAt(2));
+        for (int i = 0; i < MONTH_NAMES.length(); i += 3) {
+            if (MONTH_NAMES.charAt(i) == first && MONTH_NAMES.charAt(i + 1) == second
+                    && MONTH_NAMES.charAt(i + 2) == third) {
+                return i / 3 + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a non-negative number of a fixed width.
+     *
+     * @param text the text to read from
+     * @param start the index of the first digit
+     * @param width the number of digits
+     * @return the number, or -1 if any of the characters is not a digit
+     */
+    private static int readNumber(CharSequence text, int start, int width) {
+        int value = 0;
+        for (int i = start; i < start + width; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Finds the end of a run of digits.
+     *
+     * @param text the text to scan
+     * @param start the index to start scanning from
+     * @return the index of the first character after the digits
+     */
+    private static int findDigitsEnd(CharSequence text, int start) {
+        int end = start;
+        while (end < text.length() && text.charAt(end) >= '0' && text.charAt(end) <= '9') {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Checks whether the text has the given character at the given index.
+     *
+     * @param text the text to check
+     * @param index the index to check, which may be past the end of the text
+     * @param expected the expected character
+     * @return true if the character matches, false otherwise
+     */
+    private static boolean isCharAt(CharSequence text, int index, char expected) {
+        return index < text.length() && text.charAt(index) == expected;
+    }
+
+    /**
+     * Checks whether a character is an ASCII letter.
+     *
+     * @param c the character to check
+     * @return true if the character is an ASCII letter, false otherwise
+     */
+    private static boolean isLetter(char c) {
+        return toLowerCase(c) >= 'a' && toLowerCase(c) <= 'z';
+    }
+
+    /**
+     * Converts an ASCII letter to lower case, leaving other characters unchanged.
+     *
+     * @param c the character to convert
+     * @return the lower case character
+     */
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
@@ -2,23 +2,19 @@ package helix.task;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 import helix.enums.TaskType;
 
 /**
  * Represents a deadline helix.task with a description and a due date.
+ * The due date is held as minutes since the epoch rather than as a {@link LocalDateTime},
+ * which keeps each deadline to a single small object.
  */
 public class Deadline extends Task {
 
-    private static final DateTimeFormatter[] INPUT_FORMATTERS = {
-            DateTimeFormatter.ofPattern("d/M/yyyy HHmm"), // Format: 2/12/2019 1800
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"), // Format: 2019-10-15 1800
-            DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a") // Format: Oct 11 2019, 5:00 pm
-    };
-    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeParser.STORAGE_FORMATTER;
 
-    private LocalDateTime dueDate;
+    private long dueMinute;
 
     /**
      * Constructs a Deadline helix.task.
@@ -29,7 +25,18 @@ public class Deadline extends Task {
      */
     public Deadline(String description, String dueDate) throws IllegalArgumentException {
         super(description);
-        this.dueDate = parseDueDate(dueDate);
+        this.dueMinute = DateTimeParser.toEpochMinute(parseDueDate(dueDate));
+    }
+
+    /**
+     * Constructs a Deadline helix.task with an already parsed due date.
+     *
+     * @param description The description of the helix.task.
+     * @param dueDate     The due date of the helix.task, kept to the minute.
+     */
+    public Deadline(String description, LocalDateTime dueDate) {
+        super(description);
+        this.dueMinute = DateTimeParser.toEpochMinute(dueDate);
     }
 
     /**
@@ -37,13 +44,15 @@ public class Deadline extends Task {
      *
      * @param newDetails The new details for the deadline task in the format:
      *                   {@code "<description> - <due date>"}.
-     * @throws IllegalArgumentException If the format is incorrect.
+     * @throws IllegalArgumentException If the format is incorrect, in which case the task is left unchanged.
      */
     @Override
     public void updateTaskDetails(String newDetails) {
         String[] parts = newDetails.split(" - ");
+        long newDueMinute = DateTimeParser.toEpochMinute(parseDueDate(parts[1]));
         setDescription(parts[0]);
-        this.dueDate = parseDueDate(parts[1]);
+        this.dueMinute = newDueMinute;
+        invalidateRendering();
     }
 
     /**
@@ -54,12 +63,9 @@ public class Deadline extends Task {
      * @throws IllegalArgumentException if the input does not match any expected format.
      */
     private LocalDateTime parseDueDate(String dueDate) {
-        for (DateTimeFormatter formatter : INPUT_FORMATTERS) {
-            try {
-                return LocalDateTime.parse(dueDate, formatter);
-            } catch (DateTimeParseException ignored) {
-                // Try the next formatter
-            }
+        LocalDateTime parsed = DateTimeParser.parse(dueDate);
+        if (parsed != null) {
+            return parsed;
         }
         throw new IllegalArgumentException(
                 "Invalid date format. Supported formats: d/M/yyyy HHmm or yyyy-MM-dd HHmm."
@@ -72,7 +78,16 @@ public class Deadline extends Task {
      * @return The due date as a {@link LocalDateTime} object.
      */
     public LocalDateTime getDueDate() {
-        return dueDate;
+        return DateTimeParser.fromEpochMinute(dueMinute);
+    }
+
+    /**
+     * Retrieves the due date as stored, in minutes since the epoch.
+     *
+     * @return The due date in minutes since 1970-01-01T00:00.
+     */
+    long getDueMinute() {
+        return dueMinute;
     }
 
     /**
@@ -86,23 +101,23 @@ public class Deadline extends Task {
     }
 
     /**
-     * Gets additional details specific to a Deadline helix.task.
+     * Formats the additional details specific to a Deadline helix.task.
      *
      * @return A string describing the due date of the helix.task in "MMM dd yyyy, h:mm a" format.
      */
     @Override
-    public String getTaskDetails() {
-        return this.dueDate.format(OUTPUT_FORMATTER);
+    protected String formatDetails() {
+        return getDueDate().format(OUTPUT_FORMATTER);
     }
 
     /**
-     * Returns the string representation of the Deadline helix.task.
+     * Formats the string representation of the Deadline helix.task.
      *
      * @return A formatted string representing the Deadline helix.task.
      */
     @Override
-    public String toString() {
-        return "[" + TaskType.DEADLINE.getCode() + "]" + super.toString()
-                + " (by: " + this.dueDate.format(OUTPUT_FORMATTER) + ")";
+    protected String formatText() {
+        return "[" + TaskType.DEADLINE.getCode() + "]" + super.formatText()
+                + " (by: " + getTaskDetails() + ")";
     }
 }
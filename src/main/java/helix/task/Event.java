@@ -2,23 +2,19 @@ package helix.task;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 import helix.enums.TaskType;
 
 /**
  * Represents an event helix.task with a description, start time, and end time.
+ * Both times are held as minutes since the epoch rather than as {@link LocalDateTime} objects,
+ * which keeps each event to a single small object.
  */
 public class Event extends Task {
 
-    private static final DateTimeFormatter[] INPUT_FORMATTERS = {
-            DateTimeFormatter.ofPattern("d/M/yyyy HHmm"), // Format: 2/12/2019 1800
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HHmm"), // Format: 2019-10-15 1800
-            DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a") // Format: Oct 11 2019, 5:00 pm
-    };
-    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy, h:mm a");
-    private LocalDateTime startDateTime;
-    private LocalDateTime endDateTime;
+    private static final DateTimeFormatter OUTPUT_FORMATTER = DateTimeParser.STORAGE_FORMATTER;
+    private long startMinute;
+    private long endMinute;
 
     /**
      * Constructs an Event helix.task with the specified description, start time, and end time.
@@ -32,29 +28,52 @@ public class Event extends Task {
         super(description);
 
         // Parse the start and end date/time
-        this.startDateTime = parseDateTime(start);
-        this.endDateTime = parseDateTime(end);
+        this.startMinute = DateTimeParser.toEpochMinute(parseDateTime(start));
+        this.endMinute = DateTimeParser.toEpochMinute(parseDateTime(end));
 
         // Ensure end time is not before start time
-        if (this.startDateTime.isAfter(this.endDateTime)) {
+        if (this.startMinute > this.endMinute) {
             throw new IllegalArgumentException("End time must be after start time.");
         }
     }
 
+    /**
+     * Constructs an Event helix.task with already parsed start and end times.
+     *
+     * @param description   the description of the event
+     * @param startDateTime the start time of the event, kept to the minute
+     * @param endDateTime   the end time of the event, kept to the minute
+     * @throws IllegalArgumentException if the end time is before the start time
+     */
+    public Event(String description, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        super(description);
+        if (startDateTime.isAfter(endDateTime)) {
+            throw new IllegalArgumentException("End time must be after start time.");
+        }
+        this.startMinute = DateTimeParser.toEpochMinute(startDateTime);
+        this.endMinute = DateTimeParser.toEpochMinute(endDateTime);
+    }
+
     /**
      * Updates the event task details, including its description, start time, and end time.
      *
      * @param newDetails The new details for the event task in the format:
      *                   {@code "<description> - <start time> - <end time>"}
-     * @throws IllegalArgumentException If the format is incorrect.
+     * @throws IllegalArgumentException If the format is incorrect or the end time is before the start time,
+     *                                  in which case the task is left unchanged.
      */
     @Override
     public void updateTaskDetails(String newDetails) {
         String[] parts = newDetails.split(" - ");
+        long newStartMinute = DateTimeParser.toEpochMinute(parseDateTime(parts[1]));
+        long newEndMinute = DateTimeParser.toEpochMinute(parseDateTime(parts[2]));
+        if (newStartMinute > newEndMinute) {
+            throw new IllegalArgumentException("End time must be after start time.");
+        }
         setDescription(parts[0]);
-        this.startDateTime = parseDateTime(parts[1]);
-        this.endDateTime = parseDateTime(parts[2]);
-
+        this.startMinute = newStartMinute;
+        this.endMinute = newEndMinute;
+        invalidateRendering();
     }
 
     /**
@@ -65,18 +84,51 @@ public class Event extends Task {
      * @throws IllegalArgumentException if the input string does not match any expected format
      */
     private LocalDateTime parseDateTime(String dateTime) {
-        for (DateTimeFormatter formatter : INPUT_FORMATTERS) {
-            try {
-                return LocalDateTime.parse(dateTime, formatter);
-            } catch (DateTimeParseException ignored) {
-                // Try the next formatter
-            }
+        LocalDateTime parsed = DateTimeParser.parse(dateTime);
+        if (parsed != null) {
+            return parsed;
         }
         throw new IllegalArgumentException(
                 "Invalid date format. Supported formats: d/M/yyyy HHmm or yyyy-MM-dd HHmm."
         );
     }
 
+    /**
+     * Retrieves the start time of the event helix.task.
+     *
+     * @return The start time as a {@link LocalDateTime} object.
+     */
+    public LocalDateTime getStartDateTime() {
+        return DateTimeParser.fromEpochMinute(startMinute);
+    }
+
+    /**
+     * Retrieves the end time of the event helix.task.
+     *
+     * @return The end time as a {@link LocalDateTime} object.
+     */
+    public LocalDateTime getEndDateTime() {
+        return DateTimeParser.fromEpochMinute(endMinute);
+    }
+
+    /**
+     * Retrieves the start time as stored, in minutes since the epoch.
+     *
+     * @return The start time in minutes since 1970-01-01T00:00.
+     */
+    long getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Retrieves the end time as stored, in minutes since the epoch.
+     *
+     * @return The end time in minutes since 1970-01-01T00:00.
+     */
+    long getEndMinute() {
+        return endMinute;
+    }
+
     /**
      * Gets the type of the helix.task.
      *
@@ -88,29 +140,29 @@ public class Event extends Task {
     }
 
     /**
-     * Retrieves additional details specific to the event helix.task.
+     * Formats the additional details specific to the event helix.task.
      *
      * @return A string describing the start and end times of the event,
      *         formatted as "MMM dd yyyy, h:mm a".
      */
     @Override
-    public String getTaskDetails() {
-        return startDateTime.format(OUTPUT_FORMATTER)
+    protected String formatDetails() {
+        return getStartDateTime().format(OUTPUT_FORMATTER)
                 + " - "
-                + endDateTime.format(OUTPUT_FORMATTER);
+                + getEndDateTime().format(OUTPUT_FORMATTER);
     }
 
     /**
-     * Returns a string representation of the event helix.task.
+     * Formats the string representation of the event helix.task.
      *
      * @return A formatted string representing the event helix.task, including its description,
      *         start time, and end time.
      */
     @Override
-    public String toString() {
+    protected String formatText() {
         return "[" + TaskType.EVENT.getCode() + "]"
-                + super.toString()
-                + " (from: " + startDateTime.format(OUTPUT_FORMATTER)
-                + " to: " + endDateTime.format(OUTPUT_FORMATTER) + ")";
+                + super.formatText()
+                + " (from: " + getStartDateTime().format(OUTPUT_FORMATTER)
+                + " to: " + getEndDateTime().format(OUTPUT_FORMATTER) + ")";
     }
 }
@@ -0,0 +1,394 @@
+package helix.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Indexes task descriptions by their three-character substrings (trigrams) for fast keyword searches.
+ *
+ * <p>
+ * Every substring of a keyword that is at least three characters long contains the keyword's trigrams,
+ * so only the tasks listed under the keyword's rarest trigram need to be checked. Shorter keywords fall
+ * back to a scan over the lowercased descriptions kept by the index. Matching is case-insensitive and
+ * results are returned in the order the tasks were added, which is also their order in the task list.
+ * </p>
+ *
+ * <p>
+ * Each task is given a slot number in the order it is added, and each trigram lists the slots of the tasks
+ * that contain it in a sorted array. Removed tasks leave their slot empty until enough slots are empty,
+ * at which point the index is rebuilt without them.
+ * </p>
+ *
+ * <p>
+ * The same trigrams also serve ranked, typo-tolerant searches. A description matches a query if it shares
+ * at least a third of the query's trigrams, which is enough to survive a mistyped or swapped letter. Both
+ * are padded with a space at each end, so that the trigrams at the edges of words still match when a typo
+ * breaks every trigram inside a short word. Matches are ranked and only the best few are kept, in a heap
+ * no larger than the number requested.
+ * </p>
+ */
+public class KeywordIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    private static final Comparator<SearchResult> RANKING = Comparator
+            .comparingInt((SearchResult result) -> result.sharedGramCount)
+            .thenComparing(result -> result.isExactMatch)
+            .thenComparingInt(result -> -result.descriptionLength)
+            .thenComparingInt(result -> -result.slot);
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<Task, Integer> slots = new IdentityHashMap<>();
+    private Task[] slotTasks = new Task[INITIAL_CAPACITY];
+    private String[] slotDescriptions = new String[INITIAL_CAPACITY];
+    private int[] slotDescriptionLengths = new int[INITIAL_CAPACITY];
+    private int slotCount;
+    private int emptySlotCount;
+
+    /**
+     * Adds a task to the index. Tasks must be added in the order they appear in the task list.
+     *
+     * @param task the task to index
+     */
+    public void add(Task task) {
+        addToSlot(task, task.getDescription().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param task the task to remove
+     */
+    public void remove(Task task) {
+        Integer slot = slots.remove(task);
+        if (slot == null) {
+            return;
+        }
+        // The slot stays listed under its trigrams until the next compaction, and searches skip it
+        slotTasks[slot] = null;
+        slotDescriptions[slot] = null;
+        emptySlotCount++;
+        if (emptySlotCount >= MIN_COMPACTION_SIZE && emptySlotCount > slots.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Re-indexes a task after its description has changed, keeping its position in the results.
+     *
+     * @param task the task whose description changed
+     */
+    public void update(Task task) {
+        Integer slot = slots.get(task);
+        if (slot == null) {
+            return;
+        }
+        for (String gram : getGrams(slotDescriptions[slot])) {
+            Posting posting = postings.get(gram);
+            posting.remove(slot);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        indexDescription(slot, task.getDescription().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Finds all tasks whose description contains the keyword, ignoring case.
+     *
+     * @param keyword the keyword to search for
+     * @return the matching tasks, in task list order
+     */
+    public List<Task> find(String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        List<Task> matches = new ArrayList<>();
+        if (needle.length() < GRAM_LENGTH) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                addIfContains(matches, slot, needle);
+            }
+            return matches;
+        }
+        Posting rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            Posting posting = postings.get(needle.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return matches;
+            }
+            if (rarest == null || posting.size < rarest.size) {
+                rarest = posting;
+            }
+        }
+        for (int i = 0; i < rarest.size; i++) {
+            addIfContains(matches, rarest.slots[i], needle);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the tasks whose descriptions are most similar to the query, ignoring case.
+     *
+     * <p>
+     * Descriptions sharing the most of the query's trigrams come first. Ties go to descriptions that contain
+     * the query as it is, then to the shorter description, which is closer to the query, and then to the task
+     * earlier in the list. Queries shorter than a trigram only match descriptions that contain them.
+     * </p>
+     *
+     * @param query the text to search for
+     * @param limit the largest number of results to return
+     * @return the best matching tasks, most relevant first
+     */
+    public List<Task> search(String query, int limit) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        if (needle.length() < GRAM_LENGTH) {
+            List<Task> matches = find(needle);
+            return new ArrayList<>(matches.subList(0, Math.min(limit, matches.size())));
+        }
+
+        Set<String> grams = getGrams(needle);
+        List<Posting> queryPostings = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            Posting posting = postings.get(gram);
+            if (posting != null) {
+                queryPostings.add(posting);
+            }
+        }
+        queryPostings.sort(Comparator.comparingInt(posting -> posting.size));
+        int minSharedGrams = (grams.size() + 2) / 3;
+        // A description that contains the query shares every trigram but, at most, the two padded edge ones
+        int minExactSharedGrams = hasEveryGram(needle) ? grams.size() - 2 : Integer.MAX_VALUE;
+        int[] sharedGramCounts = new int[slotCount];
+        for (Posting posting : queryPostings) {
+            for (int i = 0; i < posting.size; i++) {
+                sharedGramCounts[posting.slots[i]]++;
+            }
+        }
+
+        PriorityQueue<SearchResult> best = new PriorityQueue<>(limit + 1, RANKING);
+        // A task that shares enough trigrams must be listed under at least one of the rarest ones
+        int candidatePostingCount = queryPostings.size() - minSharedGrams + 1;
+        for (int p = 0; p < candidatePostingCount; p++) {
+            Posting posting = queryPostings.get(p);
+            for (int i = 0; i < posting.size; i++) {
+                int slot = posting.slots[i];
+                int sharedGramCount = sharedGramCounts[slot];
+                if (sharedGramCount < minSharedGrams || slotTasks[slot] == null) {
+                    continue;
+                }
+                sharedGramCounts[slot] = 0;
+                boolean canBeExact = sharedGramCount >= minExactSharedGrams;
+                if (best.size() == limit && cannotOutrank(best.peek(), slot, sharedGramCount, canBeExact)) {
+                    continue;
+                }
+                boolean isExactMatch = canBeExact && slotDescriptions[slot].contains(needle);
+                best.add(new SearchResult(slot, sharedGramCount, isExactMatch, slotDescriptionLengths[slot]));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        }
+
+        Task[] results = new Task[best.size()];
+        for (int i = results.length - 1; i >= 0; i--) {
+            results[i] = slotTasks[best.poll().slot];
+        }
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Checks, without reading the description, whether a candidate would rank below the worst result kept.
+     * A candidate that shares as many trigrams can only outrank an exact match, or outrank anything when it
+     * cannot be an exact match itself, by being shorter or earlier.
+     *
+     * @param worst           the worst result kept so far
+     * @param slot            the slot of the candidate
+     * @param sharedGramCount the number of query trigrams the candidate's description shares
+     * @param canBeExact      whether the candidate shares enough trigrams to contain the query
+     * @return true if the candidate cannot outrank the worst result, false if it might
+     */
+    private boolean cannotOutrank(SearchResult worst, int slot, int sharedGramCount, boolean canBeExact) {
+        if (sharedGramCount != worst.sharedGramCount) {
+            return sharedGramCount < worst.sharedGramCount;
+        }
+        if (canBeExact != worst.isExactMatch) {
+            return worst.isExactMatch;
+        }
+        int descriptionLength = slotDescriptionLengths[slot];
+        return descriptionLength > worst.descriptionLength
+                || descriptionLength == worst.descriptionLength && slot > worst.slot;
+    }
+
+    /**
+     * Checks whether every trigram of the keyword is listed, which any description containing it needs.
+     *
+     * @param needle the lowercased keyword
+     * @return true if some description may contain the keyword, false if none can
+     */
+    private boolean hasEveryGram(String needle) {
+        for (int i = 0; i + GRAM_LENGTH <= needle.length(); i++) {
+            if (!postings.containsKey(needle.substring(i, i + GRAM_LENGTH))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the task in a slot to the matches if the slot is in use and its description contains the keyword.
+     *
+     * @param matches the matches found so far
+     * @param slot    the slot to check
+     * @param needle  the lowercased keyword
+     */
+    private void addIfContains(List<Task> matches, int slot, String needle) {
+        if (slotTasks[slot] != null && slotDescriptions[slot].contains(needle)) {
+            matches.add(slotTasks[slot]);
+        }
+    }
+
+    /**
+     * Gives a task the next slot and records it under every trigram of its description.
+     *
+     * @param task        the task to index
+     * @param description the lowercased description of the task
+     */
+    private void addToSlot(Task task, String description) {
+        if (slotCount == slotTasks.length) {
+            slotTasks = Arrays.copyOf(slotTasks, slotCount * 2);
+            slotDescriptions = Arrays.copyOf(slotDescriptions, slotCount * 2);
+            slotDescriptionLengths = Arrays.copyOf(slotDescriptionLengths, slotCount * 2);
+        }
+        int slot = slotCount++;
+        slots.put(task, slot);
+        slotTasks[slot] = task;
+        indexDescription(slot, description);
+    }
+
+    /**
+     * Records a slot under every trigram of the given description.
+     *
+     * @param slot        the slot of the task
+     * @param description the lowercased description of the task
+     */
+    private void indexDescription(int slot, String description) {
+        slotDescriptions[slot] = description;
+        slotDescriptionLengths[slot] = description.length();
+        for (String gram : getGrams(description)) {
+            postings.computeIfAbsent(gram, key -> new Posting()).add(slot);
+        }
+    }
+
+    /**
+     * Rebuilds the index without its empty slots, keeping the remaining tasks in order.
+     */
+    private void compact() {
+        Task[] tasks = Arrays.copyOf(slotTasks, slotCount);
+        String[] descriptions = Arrays.copyOf(slotDescriptions, slotCount);
+        int capacity = Math.max(INITIAL_CAPACITY, slots.size());
+        postings.clear();
+        slots.clear();
+        slotTasks = new Task[capacity];
+        slotDescriptions = new String[capacity];
+        slotDescriptionLengths = new int[capacity];
+        slotCount = 0;
+        emptySlotCount = 0;
+        for (int slot = 0; slot < tasks.length; slot++) {
+            if (tasks[slot] != null) {
+                addToSlot(tasks[slot], descriptions[slot]);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the distinct trigrams of a lowercased description. The description is padded with a space
+     * at each end, so that its first and last words have trigrams marking where they start and end.
+     *
+     * @param description the lowercased description
+     * @return the set of trigrams
+     */
+    private static Set<String> getGrams(String description) {
+        String padded = " " + description + " ";
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Holds the slots of the tasks that contain a trigram, in ascending order.
+     */
+    private static class Posting {
+        private int[] slots = new int[4];
+        private int size;
+
+        /**
+         * Adds a slot, keeping the slots in order. New tasks have the highest slot, so this is usually an append.
+         *
+         * @param slot the slot to add
+         */
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            if (size == 0 || slots[size - 1] < slot) {
+                slots[size++] = slot;
+                return;
+            }
+            int index = -Arrays.binarySearch(slots, 0, size, slot) - 1;
+            System.arraycopy(slots, index, slots, index + 1, size - index);
+            slots[index] = slot;
+            size++;
+        }
+
+        /**
+         * Removes a slot, if it is listed.
+         *
+         * @param slot the slot to remove
+         */
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Holds a task that matched a search, with what it is ranked by.
+     */
+    private static class SearchResult {
+        private final int slot;
+        private final int sharedGramCount;
+        private final boolean isExactMatch;
+        private final int descriptionLength;
+
+        /**
+         * Constructs a {@code SearchResult} for a matching task.
+         *
+         * @param slot              the slot of the matching task, which orders tasks as the task list does
+         * @param sharedGramCount   the number of query trigrams the description shares
+         * @param isExactMatch      whether the description contains the query as it is
+         * @param descriptionLength the length of the description
+         */
+        SearchResult(int slot, int sharedGramCount, boolean isExactMatch, int descriptionLength) {
+            this.slot = slot;
+            this.sharedGramCount = sharedGramCount;
+            this.isExactMatch = isExactMatch;
+            this.descriptionLength = descriptionLength;
+        }
+    }
+}
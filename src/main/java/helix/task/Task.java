@@ -6,10 +6,20 @@ import helix.enums.TaskType;
 
 /**
  * Represents a generic task in Helix.
+ *
+ * <p>
+ * The text of {@link #toString()} and {@link #getTaskDetails()} is built on first use and kept until the
+ * task changes, so that listing or saving unchanged tasks does not format their dates again. Subclasses
+ * supply the text through {@link #formatText()} and {@link #formatDetails()}, and must call
+ * {@link #invalidateRendering()} whenever they change a field that either depends on.
+ * </p>
  */
 public abstract class Task {
+    private int id;
     private String description;
     private TaskStatus taskStatus;
+    private String renderedText;
+    private String renderedDetails;
 
     /**
      * Constructs a Task with the specified description and pending helix.task status.
@@ -26,6 +36,7 @@ public abstract class Task {
      */
     public void markAsDone() {
         this.taskStatus = TaskStatus.COMPLETED;
+        this.renderedText = null;
     }
 
     /**
@@ -33,6 +44,27 @@ public abstract class Task {
      */
     public void markAsUndone() {
         this.taskStatus = TaskStatus.PENDING;
+        this.renderedText = null;
+    }
+
+    /**
+     * Retrieves the stable ID of the helix.task, which stays the same while other tasks are added or removed.
+     *
+     * @return the ID of the helix.task, or 0 if it has not been assigned one yet
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * Assigns the stable ID of the helix.task. IDs are assigned by the {@link TaskList} the task is added to,
+     * or restored from storage.
+     *
+     * @param id the ID of the helix.task, a positive number
+     */
+    public void setId(int id) {
+        assert id > 0 : "Task IDs should be positive!";
+        this.id = id;
     }
 
     /**
@@ -61,11 +93,25 @@ public abstract class Task {
     public abstract TaskType getTaskType();
 
     /**
-     * Returns helix.task-specific details. To be overridden by subclasses.
+     * Returns helix.task-specific details, formatting them only if the task changed since they were last built.
+     *
+     * @return Additional details about the helix.task.
+     */
+    public final String getTaskDetails() {
+        String details = this.renderedDetails;
+        if (details == null) {
+            details = formatDetails();
+            this.renderedDetails = details;
+        }
+        return details;
+    }
+
+    /**
+     * Formats the helix.task-specific details. To be overridden by subclasses.
      *
      * @return Additional details about the helix.task.
      */
-    public abstract String getTaskDetails();
+    protected abstract String formatDetails();
 
     /**
      * Updates the task details based on the provided new details.
@@ -88,15 +134,41 @@ public abstract class Task {
      */
     public void setDescription(String description) {
         this.description = description;
+        invalidateRendering();
+    }
+
+    /**
+     * Discards the cached text of the helix.task, so that it is formatted again on next use.
+     * Must be called by subclasses after they change a field shown in the text or the details.
+     */
+    protected void invalidateRendering() {
+        this.renderedText = null;
+        this.renderedDetails = null;
     }
 
     /**
-     * Returns a string representation of the helix.task, including its completion status.
+     * Returns a string representation of the helix.task, formatting it only if the task changed since
+     * it was last built.
      *
      * @return the string representation of the helix.task
      */
     @Override
-    public String toString() {
+    public final String toString() {
+        String text = this.renderedText;
+        if (text == null) {
+            text = formatText();
+            this.renderedText = text;
+        }
+        return text;
+    }
+
+    /**
+     * Formats the string representation of the helix.task, including its completion status.
+     * Subclasses extend it with their type and details.
+     *
+     * @return the string representation of the helix.task
+     */
+    protected String formatText() {
         String outputSymbol = (this.taskStatus == TaskStatus.COMPLETED)
                 ? OutputSymbol.CHECKMARK.getSymbol() : " ";
         return "[" + outputSymbol + "] " + description;
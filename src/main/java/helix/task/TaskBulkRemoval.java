@@ -0,0 +1,15 @@
+package helix.task;
+
+/**
+ * Removes several tasks by their positions in a single pass, for task lists that can do so without turning
+ * the tasks into objects, such as lists that parse their tasks only when they are first accessed.
+ */
+public interface TaskBulkRemoval {
+    /**
+     * Removes the tasks at the given positions, moving the remaining tasks up in a single pass.
+     *
+     * @param sortedIndices the distinct 0-based positions of the tasks to remove, in ascending order
+     * @throws IndexOutOfBoundsException if any index is out of range
+     */
+    void removeAll(int[] sortedIndices);
+}
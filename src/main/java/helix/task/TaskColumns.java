@@ -0,0 +1,145 @@
+package helix.task;
+
+import java.util.Arrays;
+import java.util.List;
+
+import helix.enums.TaskStatus;
+import helix.enums.TaskType;
+
+/**
+ * Mirrors the task list as parallel primitive arrays, one per attribute, for queries that scan every task.
+ *
+ * <p>
+ * Scanning a {@code List<Task>} visits one object per task, spread across the heap, and reads each date
+ * through a getter. Here the attributes a filter looks at sit next to each other in memory, so a query such
+ * as "pending deadlines due before a date" is a single loop over a few arrays. Position {@code i} in every
+ * array describes the task at index {@code i} of the task list, so the mirror must be told about every
+ * change made to the list.
+ * </p>
+ */
+public class TaskColumns {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte DEADLINE = (byte) TaskType.DEADLINE.ordinal();
+
+    private byte[] types;
+    private boolean[] isCompleted;
+    private long[] startMinutes;
+    private long[] endMinutes;
+    private int size;
+
+    /**
+     * Constructs the columns for the given tasks.
+     *
+     * @param tasks the tasks to mirror, in task list order
+     */
+    public TaskColumns(List<Task> tasks) {
+        int capacity = Math.max(INITIAL_CAPACITY, tasks.size());
+        types = new byte[capacity];
+        isCompleted = new boolean[capacity];
+        startMinutes = new long[capacity];
+        endMinutes = new long[capacity];
+        for (Task task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Appends a task to the end of the columns.
+     *
+     * @param task the task that was added to the end of the task list
+     */
+    public void add(Task task) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            isCompleted = Arrays.copyOf(isCompleted, capacity);
+            startMinutes = Arrays.copyOf(startMinutes, capacity);
+            endMinutes = Arrays.copyOf(endMinutes, capacity);
+        }
+        size++;
+        set(size - 1, task);
+    }
+
+    /**
+     * Refreshes the attributes of the task at the given index, after it was marked or updated.
+     *
+     * @param index the index of the task (0-based)
+     * @param task  the task at that index
+     */
+    public void set(int index, Task task) {
+        assert index < size : "Index out of range: " + index;
+        types[index] = (byte) task.getTaskType().ordinal();
+        isCompleted[index] = task.getTaskStatus() == TaskStatus.COMPLETED;
+        if (task instanceof Deadline deadline) {
+            startMinutes[index] = deadline.getDueMinute();
+            endMinutes[index] = deadline.getDueMinute();
+        } else if (task instanceof Event event) {
+            startMinutes[index] = event.getStartMinute();
+            endMinutes[index] = event.getEndMinute();
+        } else {
+            startMinutes[index] = 0;
+            endMinutes[index] = 0;
+        }
+    }
+
+    /**
+     * Removes the task at the given index, moving later tasks up by one.
+     *
+     * @param index the index of the removed task (0-based)
+     */
+    public void remove(int index) {
+        removeAll(new int[] {index});
+    }
+
+    /**
+     * Removes the tasks at the given indices, moving the remaining tasks up in a single pass.
+     *
+     * @param sortedIndices the distinct indices of the removed tasks (0-based), in ascending order
+     */
+    public void removeAll(int[] sortedIndices) {
+        int target = sortedIndices.length == 0 ? size : sortedIndices[0];
+        int next = 0;
+        for (int source = target; source < size; source++) {
+            if (next < sortedIndices.length && sortedIndices[next] == source) {
+                next++;
+                continue;
+            }
+            types[target] = types[source];
+            isCompleted[target] = isCompleted[source];
+            startMinutes[target] = startMinutes[source];
+            endMinutes[target] = endMinutes[source];
+            target++;
+        }
+        size = target;
+    }
+
+    /**
+     * Finds every pending deadline due strictly before the given time.
+     *
+     * @param epochMinute the time, in minutes since 1970-01-01T00:00
+     * @return the indices of the matching tasks (0-based), in task list order
+     */
+    public int[] findPendingDeadlinesBefore(long epochMinute) {
+        int[] matches = new int[INITIAL_CAPACITY];
+        int matchCount = 0;
+        for (int i = 0; i < size; i++) {
+            // Non-short-circuit operators keep the three checks free of branches
+            if (types[i] == DEADLINE & !isCompleted[i] & startMinutes[i] < epochMinute) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matchCount * 2);
+                }
+                matches[matchCount++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Retrieves the number of tasks in the columns.
+     *
+     * @return the number of tasks mirrored
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,16 @@
+package helix.task;
+
+/**
+ * Looks up the stable ID of a task by its position, for task lists that can do so without turning
+ * the task into an object, such as lists that parse their tasks only when they are first accessed.
+ */
+public interface TaskIdLookup {
+    /**
+     * Retrieves the stable ID of the task at the given position.
+     *
+     * @param index the 0-based position of the task
+     * @return the ID of the task, or 0 if it has none yet
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int getTaskId(int index);
+}
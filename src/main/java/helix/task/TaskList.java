@@ -1,31 +1,134 @@
 package helix.task;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import helix.enums.OutputSymbol;
+import helix.enums.MutationType;
+import helix.enums.TaskStatus;
+import helix.exception.HelixException;
+import helix.storage.PersistenceScheduler;
 import helix.storage.Storage;
+import helix.storage.TaskMutation;
 import helix.ui.ConsoleUi;
 
 /**
  * Represents a helix.task manager that maintains a list of tasks, allowing for operations such as adding,
  * removing, and marking tasks as done or undone. The TaskList automatically synchronizes changes
  * with a helix.storage backend.
+ *
+ * <p>
+ * A TaskList may be shared by several threads. Each method holds a read-write lock, so queries run
+ * concurrently with one another while changes run alone. Operations made of several calls, such as a
+ * command that checks a task before marking it, should be run through
+ * {@link #runAtomically(boolean, TaskOperation)} so that no other change can come in between.
+ * </p>
+ *
+ * <p>
+ * Besides its position, each task has a stable ID that never changes and is never reused while the list
+ * exists. New tasks are given the next ID and added to the end, so the list stays sorted by ID and a task is
+ * found by its ID with a binary search. The IDs are read through {@link TaskIdLookup} where the list supports
+ * it, so that looking up an ID does not parse every task of a lazily loaded file. Tasks loaded without an ID,
+ * or with an ID that an earlier task already has, are given new IDs when the list is constructed, and the
+ * whole list is saved again with the next change so that those IDs persist.
+ * </p>
  */
 public class TaskList {
     private final List<Task> tasks;
     private final Storage storage;
+    private final List<TaskMutation> pendingMutations = new ArrayList<>();
+    private final PersistenceScheduler persistenceScheduler;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object indexInitLock = new Object();
+    private String backgroundFlushError;
+    private boolean isBatching;
+    private boolean isClosed;
+    private volatile KeywordIndex keywordIndex;
+    private volatile DateIndex dateIndex;
+    private volatile TaskColumns taskColumns;
+    private int nextTaskId;
+    private boolean isSortedById;
+    private volatile boolean hasUnsavedIds;
 
     /**
      * Constructs a TaskList and initializes it with tasks loaded from the specified helix.storage.
+     * Every change is written to storage immediately.
      *
      * @param storage the Storage object responsible for saving and loading tasks
      * @throws IOException if an error occurs while loading tasks from helix.storage
      */
     public TaskList(Storage storage) throws IOException {
+        this(storage, 0, 1);
+    }
+
+    /**
+     * Constructs a TaskList whose changes are coalesced and written to storage in batches.
+     *
+     * @param storage the Storage object responsible for saving and loading tasks
+     * @param flushIntervalMillis the longest time, in milliseconds, a change may stay unsaved;
+     *                            0 writes every change immediately
+     * @param maxBatchSize the number of unsaved changes that triggers an immediate write
+     * @throws IOException if an error occurs while loading tasks from helix.storage
+     */
+    public TaskList(Storage storage, long flushIntervalMillis, int maxBatchSize) throws IOException {
         this.storage = storage;
         this.tasks = storage.load();
+        assignMissingIds();
+        this.persistenceScheduler = flushIntervalMillis > 0
+                ? new PersistenceScheduler(this::flushScheduled, flushIntervalMillis, maxBatchSize)
+                : null;
+    }
+
+    /**
+     * Runs an operation on this TaskList as a single step, holding the read lock for operations that
+     * only query the tasks and the write lock otherwise.
+     *
+     * <p>
+     * A read-only operation must not change the tasks, as the read lock cannot be upgraded.
+     * </p>
+     *
+     * @param isReadOnly whether the operation only queries the tasks
+     * @param operation the operation to run
+     * @throws HelixException if the operation fails
+     */
+    public void runAtomically(boolean isReadOnly, TaskOperation operation) throws HelixException {
+        Lock operationLock = isReadOnly ? lock.readLock() : lock.writeLock();
+        operationLock.lock();
+        try {
+            operation.run();
+        } finally {
+            operationLock.unlock();
+        }
+    }
+
+    /**
+     * Runs an operation made of many changes as a single step and saves all of its changes together
+     * once it ends, instead of after each change. Changes are saved even if the operation fails part way.
+     *
+     * @param operation the operation to run
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     * @throws HelixException if the operation fails
+     */
+    public void runBatch(TaskOperation operation, ConsoleUi consoleUi) throws HelixException {
+        lock.writeLock().lock();
+        try {
+            isBatching = true;
+            try {
+                operation.run();
+            } finally {
+                isBatching = false;
+                flush(consoleUi);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -35,8 +138,29 @@ public class TaskList {
      * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
      */
     public void addTask(Task task, ConsoleUi consoleUi) {
-        this.tasks.add(task);
-        updateStorage(consoleUi);
+        lock.writeLock().lock();
+        try {
+            if (task.getId() == 0 || findIndexOfId(task.getId()) >= 0) {
+                task.setId(nextTaskId++);
+            }
+            if (!tasks.isEmpty() && task.getId() < getTaskId(tasks.size() - 1)) {
+                isSortedById = false;
+            }
+            nextTaskId = Math.max(nextTaskId, task.getId() + 1);
+            this.tasks.add(task);
+            if (keywordIndex != null) {
+                keywordIndex.add(task);
+            }
+            if (dateIndex != null) {
+                dateIndex.add(task);
+            }
+            if (taskColumns != null) {
+                taskColumns.add(task);
+            }
+            updateStorage(new TaskMutation(MutationType.ADD, tasks.size() - 1, task), consoleUi);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -48,9 +172,23 @@ public class TaskList {
      * @throws IndexOutOfBoundsException if the {@code taskIndex} is out of range
      */
     public Task removeTask(int taskIndex, ConsoleUi consoleUi) {
-        Task task = this.tasks.remove(taskIndex);
-        updateStorage(consoleUi);
-        return task;
+        lock.writeLock().lock();
+        try {
+            Task task = this.tasks.remove(taskIndex);
+            if (keywordIndex != null) {
+                keywordIndex.remove(task);
+            }
+            if (dateIndex != null) {
+                dateIndex.remove(task);
+            }
+            if (taskColumns != null) {
+                taskColumns.remove(taskIndex);
+            }
+            updateStorage(new TaskMutation(MutationType.REMOVE, taskIndex, null), consoleUi);
+            return task;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -61,9 +199,30 @@ public class TaskList {
      * @param consoleUi the {@link ConsoleUi} component used to display messages to the user.
      */
     public void updateTask(int taskIndex, String newDetails, ConsoleUi consoleUi) {
-        Task task = this.tasks.get(taskIndex);
-        task.updateTaskDetails(newDetails);
-        updateStorage(consoleUi);
+        lock.writeLock().lock();
+        try {
+            Task task = this.tasks.get(taskIndex);
+            if (dateIndex != null) {
+                dateIndex.remove(task);
+            }
+            try {
+                task.updateTaskDetails(newDetails);
+            } finally {
+                // Refreshed even if the new details were rejected, so the indexes always match the task
+                if (dateIndex != null) {
+                    dateIndex.add(task);
+                }
+                if (keywordIndex != null) {
+                    keywordIndex.update(task);
+                }
+                if (taskColumns != null) {
+                    taskColumns.set(taskIndex, task);
+                }
+            }
+            updateStorage(new TaskMutation(MutationType.UPDATE, taskIndex, task), consoleUi);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -74,9 +233,17 @@ public class TaskList {
      * @throws IndexOutOfBoundsException if the {@code taskIndex} is out of range
      */
     public void markTaskAsDone(int taskIndex, ConsoleUi consoleUi) {
-        Task task = this.tasks.get(taskIndex);
-        task.markAsDone();
-        updateStorage(consoleUi);
+        lock.writeLock().lock();
+        try {
+            Task task = this.tasks.get(taskIndex);
+            task.markAsDone();
+            if (taskColumns != null) {
+                taskColumns.set(taskIndex, task);
+            }
+            updateStorage(new TaskMutation(MutationType.MARK, taskIndex, task), consoleUi);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     /**
@@ -87,13 +254,197 @@ public class TaskList {
      * @throws IndexOutOfBoundsException if the {@code taskIndex} is out of range
      */
     public void markTaskAsUndone(int taskIndex, ConsoleUi consoleUi) {
-        Task task = this.tasks.get(taskIndex);
-        task.markAsUndone();
-        updateStorage(consoleUi);
+        lock.writeLock().lock();
+        try {
+            Task task = this.tasks.get(taskIndex);
+            task.markAsUndone();
+            if (taskColumns != null) {
+                taskColumns.set(taskIndex, task);
+            }
+            updateStorage(new TaskMutation(MutationType.UNMARK, taskIndex, task), consoleUi);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes several tasks at once and updates the helix.storage once for all of them.
+     * The remaining tasks are moved up in a single pass, however many tasks are removed.
+     *
+     * @param taskIndices the distinct indices of the tasks to remove (0-based), in ascending order
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     * @return the removed tasks, in task list order
+     * @throws IndexOutOfBoundsException if any index is out of range
+     */
+    public List<Task> removeTasks(int[] taskIndices, ConsoleUi consoleUi) {
+        lock.writeLock().lock();
+        try {
+            List<Task> removedTasks = new ArrayList<>(taskIndices.length);
+            for (int taskIndex : taskIndices) {
+                removedTasks.add(this.tasks.get(taskIndex));
+            }
+            removeAtIndices(taskIndices);
+
+            List<TaskMutation> mutations = new ArrayList<>(taskIndices.length);
+            for (int i = taskIndices.length - 1; i >= 0; i--) {
+                // Recorded from the back, so that each index is still correct when the changes are replayed
+                mutations.add(new TaskMutation(MutationType.REMOVE, taskIndices[i], null));
+            }
+            for (Task task : removedTasks) {
+                if (keywordIndex != null) {
+                    keywordIndex.remove(task);
+                }
+                if (dateIndex != null) {
+                    dateIndex.remove(task);
+                }
+            }
+            if (taskColumns != null) {
+                taskColumns.removeAll(taskIndices);
+            }
+            updateStorage(mutations, consoleUi);
+            return removedTasks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks several tasks as done at once and updates the helix.storage once for all of them.
+     * Tasks that are already done are left unchanged.
+     *
+     * @param taskIndices the indices of the tasks to mark as done (0-based)
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     * @return the tasks that were marked as done
+     * @throws IndexOutOfBoundsException if any index is out of range
+     */
+    public List<Task> markTasksAsDone(int[] taskIndices, ConsoleUi consoleUi) {
+        return setTaskStatuses(taskIndices, TaskStatus.COMPLETED, consoleUi);
+    }
+
+    /**
+     * Marks several tasks as not done at once and updates the helix.storage once for all of them.
+     * Tasks that are already not done are left unchanged.
+     *
+     * @param taskIndices the indices of the tasks to mark as not done (0-based)
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     * @return the tasks that were marked as not done
+     * @throws IndexOutOfBoundsException if any index is out of range
+     */
+    public List<Task> markTasksAsUndone(int[] taskIndices, ConsoleUi consoleUi) {
+        return setTaskStatuses(taskIndices, TaskStatus.PENDING, consoleUi);
+    }
+
+    /**
+     * Finds the position of the task with the given stable ID.
+     *
+     * <p>
+     * As tasks are added in ID order and keep their order, the task is found by binary search, falling back
+     * to a scan if the stored order has been changed by hand. Neither parses tasks that are not yet loaded.
+     * </p>
+     *
+     * @param taskId the ID of the task
+     * @return the index of the task (0-based index), or -1 if no task has that ID
+     */
+    public int findTaskIndexById(int taskId) {
+        lock.readLock().lock();
+        try {
+            return findIndexOfId(taskId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds all tasks whose description contains the keyword, ignoring case.
+     * The keyword index is built on the first search and kept up to date afterwards.
+     *
+     * @param keyword the keyword to search for
+     * @return the matching tasks, in task list order
+     */
+    public List<Task> findTasks(String keyword) {
+        lock.readLock().lock();
+        try {
+            return getKeywordIndex().find(keyword);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the tasks whose descriptions best match the query, allowing for typos.
+     * The keyword index is built on the first search and kept up to date afterwards.
+     *
+     * @param query the text to search for
+     * @param limit the largest number of results to return
+     * @return the best matching tasks, most relevant first
+     */
+    public List<Task> searchTasks(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            return getKeywordIndex().search(query, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds all deadlines due within the given window, inclusive of both ends.
+     * The date index is built on the first date query and kept up to date afterwards.
+     *
+     * @param from the start of the window
+     * @param to the end of the window
+     * @return the matching deadlines, ordered by due date
+     */
+    public List<Task> findDeadlinesDue(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return getDateIndex().findDeadlinesDue(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds all events that overlap the given window, inclusive of both ends.
+     * The date index is built on the first date query and kept up to date afterwards.
+     *
+     * @param from the start of the window
+     * @param to the end of the window
+     * @return the matching events, ordered by start time
+     */
+    public List<Task> findEventsOverlapping(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return getDateIndex().findEventsOverlapping(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds all pending deadlines due strictly before the given time, in task list order.
+     * The task columns are built on the first such query and kept up to date afterwards.
+     *
+     * @param before the time the deadlines must be due before
+     * @return the matching deadlines, in task list order
+     */
+    public List<Task> findPendingDeadlinesBefore(LocalDateTime before) {
+        lock.readLock().lock();
+        try {
+            int[] taskIndices = getTaskColumns().findPendingDeadlinesBefore(DateTimeParser.toEpochMinute(before));
+            List<Task> matchingTasks = new ArrayList<>(taskIndices.length);
+            for (int taskIndex : taskIndices) {
+                matchingTasks.add(this.tasks.get(taskIndex));
+            }
+            return matchingTasks;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
      * Retrieves an unmodifiable view of the current list of tasks.
+     * The view is only consistent while the caller is inside {@link #runAtomically(boolean, TaskOperation)}.
      *
      * @return an unmodifiable List of tasks
      */
@@ -107,7 +458,12 @@ public class TaskList {
      * @return the number of tasks in the TaskList
      */
     public int getTaskCount() {
-        return this.tasks.size();
+        lock.readLock().lock();
+        try {
+            return this.tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
@@ -118,20 +474,323 @@ public class TaskList {
      * @throws IndexOutOfBoundsException if the taskIndex is out of range
      */
     public Task getTask(int taskIndex) {
-        return this.tasks.get(taskIndex);
+        lock.readLock().lock();
+        try {
+            return this.tasks.get(taskIndex);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     /**
-     * Updates the current state of the tasks to the helix.storage. If saving fails, logs a warning message.
+     * Writes all changes that have not been saved yet to the helix.storage.
+     * If saving fails, logs a warning message and keeps the changes for the next attempt.
      *
      * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
      */
-    private void updateStorage(ConsoleUi consoleUi) {
+    public void flush(ConsoleUi consoleUi) {
+        lock.writeLock().lock();
         try {
-            storage.save(tasks);
+            writePendingMutations();
         } catch (IOException e) {
-            String warningSymbol = OutputSymbol.WARNING.getSymbol();
             consoleUi.showSavingStorageError(e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes all changes that have not been saved yet and stops the scheduler that batches writes,
+     * releasing its thread and shutdown hook. Changes made after closing are written to storage immediately.
+     * Closing an already closed TaskList only writes the pending changes.
+     *
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     */
+    public void close(ConsoleUi consoleUi) {
+        lock.writeLock().lock();
+        try {
+            isClosed = true;
+            flush(consoleUi);
+            if (persistenceScheduler != null) {
+                persistenceScheduler.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the status of several tasks and updates the helix.storage once for all of them.
+     *
+     * @param taskIndices the indices of the tasks to update (0-based)
+     * @param status the status to set
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     * @return the tasks whose status changed
+     */
+    private List<Task> setTaskStatuses(int[] taskIndices, TaskStatus status, ConsoleUi consoleUi) {
+        lock.writeLock().lock();
+        try {
+            List<Task> changedTasks = new ArrayList<>();
+            List<TaskMutation> mutations = new ArrayList<>();
+            for (int taskIndex : taskIndices) {
+                Task task = this.tasks.get(taskIndex);
+                if (task.getTaskStatus() == status) {
+                    continue;
+                }
+                if (status == TaskStatus.COMPLETED) {
+                    task.markAsDone();
+                    mutations.add(new TaskMutation(MutationType.MARK, taskIndex, task));
+                } else {
+                    task.markAsUndone();
+                    mutations.add(new TaskMutation(MutationType.UNMARK, taskIndex, task));
+                }
+                if (taskColumns != null) {
+                    taskColumns.set(taskIndex, task);
+                }
+                changedTasks.add(task);
+            }
+            if (!mutations.isEmpty()) {
+                updateStorage(mutations, consoleUi);
+            }
+            return changedTasks;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Queues a change for the helix.storage, writing it immediately unless changes are being batched.
+     * Must be called with the write lock held.
+     *
+     * @param mutation the change that was made to the tasks
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     */
+    private void updateStorage(TaskMutation mutation, ConsoleUi consoleUi) {
+        updateStorage(List.of(mutation), consoleUi);
+    }
+
+    /**
+     * Queues several changes for the helix.storage, writing them together immediately unless changes are
+     * being batched. Must be called with the write lock held.
+     *
+     * @param mutations the changes that were made to the tasks, oldest first
+     * @param consoleUi the {@link ConsoleUi} component used to display messages to the user
+     */
+    private void updateStorage(List<TaskMutation> mutations, ConsoleUi consoleUi) {
+        pendingMutations.addAll(mutations);
+        if (isBatching) {
+            return;
+        }
+        if (persistenceScheduler == null || isClosed) {
+            flush(consoleUi);
+            return;
+        }
+        if (backgroundFlushError != null) {
+            consoleUi.showSavingStorageError(backgroundFlushError);
+            backgroundFlushError = null;
+        }
+        persistenceScheduler.markDirty();
+    }
+
+    /**
+     * Writes pending changes on behalf of the scheduler, remembering any failure
+     * so that it can be reported on the next command.
+     */
+    private void flushScheduled() {
+        lock.writeLock().lock();
+        try {
+            writePendingMutations();
+        } catch (IOException e) {
+            backgroundFlushError = e.getMessage();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gives every loaded task that has no ID, or the same ID as an earlier task, a new ID after the largest one.
+     * Called by the constructor, before the list is shared, so it needs no lock.
+     *
+     * <p>
+     * A file saved by this version holds unique IDs in ascending order, which a single pass over the IDs
+     * confirms without parsing any task. Only files that fail the check have their IDs repaired, which
+     * parses the tasks that need a new ID.
+     * </p>
+     */
+    private void assignMissingIds() {
+        int largestId = 0;
+        isSortedById = true;
+        for (int i = 0; i < tasks.size(); i++) {
+            int id = getTaskId(i);
+            if (id <= largestId) {
+                isSortedById = false;
+            }
+            largestId = Math.max(largestId, id);
+        }
+        nextTaskId = largestId + 1;
+        if (isSortedById) {
+            return;
+        }
+
+        Set<Integer> seenIds = new HashSet<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            int id = getTaskId(i);
+            if (id == 0 || !seenIds.add(id)) {
+                Task task = tasks.get(i);
+                task.setId(nextTaskId++);
+                seenIds.add(task.getId());
+                hasUnsavedIds = true;
+            }
+        }
+        isSortedById = true;
+        for (int i = 1; i < tasks.size() && isSortedById; i++) {
+            isSortedById = getTaskId(i - 1) < getTaskId(i);
+        }
+    }
+
+    /**
+     * Finds the position of the task with the given ID.
+     * Must be called with the read or write lock held.
+     *
+     * @param taskId the ID of the task
+     * @return the index of the task (0-based index), or -1 if no task has that ID
+     */
+    private int findIndexOfId(int taskId) {
+        if (isSortedById) {
+            int low = 0;
+            int high = tasks.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int middleId = getTaskId(middle);
+                if (middleId < taskId) {
+                    low = middle + 1;
+                } else if (middleId > taskId) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            if (getTaskId(i) == taskId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the tasks at the given positions, moving the remaining tasks up in a single pass.
+     * Lists that can remove tasks without parsing the ones they keep do so through {@link TaskBulkRemoval}.
+     * Must be called with the write lock held.
+     *
+     * @param sortedIndices the distinct indices of the tasks to remove (0-based), in ascending order
+     */
+    private void removeAtIndices(int[] sortedIndices) {
+        if (tasks instanceof TaskBulkRemoval bulkRemoval) {
+            bulkRemoval.removeAll(sortedIndices);
+            return;
+        }
+        int target = sortedIndices.length == 0 ? tasks.size() : sortedIndices[0];
+        int next = 0;
+        for (int source = target; source < tasks.size(); source++) {
+            if (next < sortedIndices.length && sortedIndices[next] == source) {
+                next++;
+                continue;
+            }
+            tasks.set(target, tasks.get(source));
+            target++;
+        }
+        tasks.subList(target, tasks.size()).clear();
+    }
+
+    /**
+     * Retrieves the ID of the task at the given position, without parsing the task if the list
+     * can read the ID directly.
+     *
+     * @param index the index of the task (0-based index)
+     * @return the ID of the task, or 0 if it has none
+     */
+    private int getTaskId(int index) {
+        return tasks instanceof TaskIdLookup idLookup ? idLookup.getTaskId(index) : tasks.get(index).getId();
+    }
+
+    /**
+     * Retrieves the keyword index, building it from the current tasks on first use.
+     * Must be called with the read or write lock held, which keeps the tasks from changing while it is built.
+     *
+     * @return the keyword index
+     */
+    private KeywordIndex getKeywordIndex() {
+        if (keywordIndex == null) {
+            synchronized (indexInitLock) {
+                if (keywordIndex == null) {
+                    KeywordIndex index = new KeywordIndex();
+                    for (Task task : tasks) {
+                        index.add(task);
+                    }
+                    keywordIndex = index;
+                }
+            }
+        }
+        return keywordIndex;
+    }
+
+    /**
+     * Retrieves the date index, building it from the current tasks on first use.
+     * Must be called with the read or write lock held, which keeps the tasks from changing while it is built.
+     *
+     * @return the date index
+     */
+    private DateIndex getDateIndex() {
+        if (dateIndex == null) {
+            synchronized (indexInitLock) {
+                if (dateIndex == null) {
+                    DateIndex index = new DateIndex();
+                    for (Task task : tasks) {
+                        index.add(task);
+                    }
+                    dateIndex = index;
+                }
+            }
+        }
+        return dateIndex;
+    }
+
+    /**
+     * Retrieves the task columns, building them from the current tasks on first use.
+     * Must be called with the read or write lock held, which keeps the tasks from changing while they are built.
+     *
+     * @return the task columns
+     */
+    private TaskColumns getTaskColumns() {
+        if (taskColumns == null) {
+            synchronized (indexInitLock) {
+                if (taskColumns == null) {
+                    taskColumns = new TaskColumns(tasks);
+                }
+            }
+        }
+        return taskColumns;
+    }
+
+    /**
+     * Writes all pending changes to storage as one batch.
+     * Must be called with the write lock held.
+     *
+     * @throws IOException if the changes could not be written; they are kept pending in that case
+     */
+    private void writePendingMutations() throws IOException {
+        if (pendingMutations.isEmpty()) {
+            return;
+        }
+        if (hasUnsavedIds) {
+            storage.save(tasks);
+            hasUnsavedIds = false;
+        } else {
+            storage.record(new ArrayList<>(pendingMutations), tasks);
         }
+        pendingMutations.clear();
     }
 }
@@ -0,0 +1,17 @@
+package helix.task;
+
+import helix.exception.HelixException;
+
+/**
+ * Represents an operation on a {@link TaskList} that is run as a single step
+ * by {@link TaskList#runAtomically(boolean, TaskOperation)}.
+ */
+@FunctionalInterface
+public interface TaskOperation {
+    /**
+     * Runs the operation.
+     *
+     * @throws HelixException if the operation fails
+     */
+    void run() throws HelixException;
+}
@@ -37,22 +37,22 @@ public class Todo extends Task {
     }
 
     /**
-     * Gets additional details specific to a Todo helix.task.
+     * Formats the additional details specific to a Todo helix.task.
      *
      * @return An empty string as Todo tasks have no additional details.
      */
     @Override
-    public String getTaskDetails() {
+    protected String formatDetails() {
         return ""; // No additional details for a Todo helix.task
     }
 
     /**
-     * Returns the string representation of the Todo helix.task.
+     * Formats the string representation of the Todo helix.task.
      *
      * @return A formatted string representing the Todo helix.task.
      */
     @Override
-    public String toString() {
-        return "[" + TaskType.TODO.getCode() + "]" + super.toString();
+    protected String formatText() {
+        return "[" + TaskType.TODO.getCode() + "]" + super.formatText();
     }
 }
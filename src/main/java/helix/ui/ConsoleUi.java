@@ -1,5 +1,7 @@
 package helix.ui;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.Scanner;
 
@@ -18,6 +20,10 @@ import helix.task.Task;
  */
 public class ConsoleUi {
 
+    private static final int ESTIMATED_TASK_LINE_LENGTH = 80;
+    private static final PrintStream DISCARDED_OUTPUT = new PrintStream(OutputStream.nullOutputStream());
+
+    private final boolean isQuiet;
     private String lastMessage = "";
 
     private final String logo = """
@@ -49,17 +55,44 @@ public class ConsoleUi {
     private final String completedSymbol = OutputSymbol.WRENCH.getSymbol();
     private final String checkSymbol = OutputSymbol.CHECK.getSymbol();
     private final String crossSymbol = OutputSymbol.CROSS.getSymbol();
+    private final String tagSymbol = OutputSymbol.TAG.getSymbol();
+
+    /**
+     * Constructs a ConsoleUi that prints to the console.
+     */
+    public ConsoleUi() {
+        this(false);
+    }
+
+    /**
+     * Constructs a ConsoleUi that prints to the console unless it is quiet. A quiet ConsoleUi only keeps the
+     * last message, for modes such as the server and batch mode where responses are sent elsewhere.
+     *
+     * @param isQuiet true to print nothing to the console
+     */
+    public ConsoleUi(boolean isQuiet) {
+        this.isQuiet = isQuiet;
+    }
+
+    /**
+     * Checks whether this ConsoleUi prints nothing to the console.
+     *
+     * @return true if this ConsoleUi is quiet, false otherwise
+     */
+    public boolean isQuiet() {
+        return isQuiet;
+    }
 
     /**
      * Displays the welcome message when the application starts.
      */
     public void showWelcome() {
         // print introduction message
-        System.out.println(logo);
-        System.out.println(
+        console().println(logo);
+        console().println(
                 helixSymbol + " [Helix] : Hello! I'm your personal assistant, "
         );
-        System.out.println(
+        console().println(
                 helixSymbol + " [Helix] : What can I do for you today?\n"
         );
     }
@@ -68,18 +101,18 @@ public class ConsoleUi {
      * Displays the exit message when the application terminates.
      */
     public void showExit() {
-        System.out.println(
+        console().println(
                 helixSymbol
                         + " [Helix] : Bye! Hope to see you soon! "
                         + handwaveSymbol
         );
-        System.out.println("=========================================================");
-        System.out.println(
+        console().println("=========================================================");
+        console().println(
                 sparkleSymbol
                         + " Thank you for using  Have a great day! "
                         + sparkleSymbol
         );
-        System.out.println("=========================================================");
+        console().println("=========================================================");
         lastMessage = handwaveSymbol + "Bye! Hope to see you soon!";
     }
 
@@ -91,15 +124,25 @@ public class ConsoleUi {
      */
     public String readCommand(Scanner sc) {
         // retrieve user input
-        System.out.print(userSymbol + " [You]   : ");
+        console().print(userSymbol + " [You]   : ");
         return sc.nextLine();
     }
 
+    /**
+     * Retrieves the stream that messages are printed to, which is looked up on every call so that
+     * redirecting standard output takes effect.
+     *
+     * @return standard output, or a stream that discards everything if this ConsoleUi is quiet
+     */
+    private PrintStream console() {
+        return isQuiet ? DISCARDED_OUTPUT : System.out;
+    }
+
     /**
      * Displays a decorative line for formatting.
      */
     public void showLine() {
-        System.out.println("════════════════════════════════════");
+        console().println("════════════════════════════════════");
     }
 
     /**
@@ -109,17 +152,20 @@ public class ConsoleUi {
      */
     public void showError(String message) {
         lastMessage = String.format("%s Error message - %s", warningSymbol, message);
-        System.out.println(warningSymbol + " [Helix] : " + message + "\n");
+        console().println(warningSymbol + " [Helix] : " + message + "\n");
     }
 
     /**
-     * Displays an error message indicating a failure to load tasks from storage.
+     * Displays an error message indicating a failure to load tasks from storage, after which no commands
+     * are run so that the task file is not overwritten.
+     *
+     * @param reason the reason the tasks could not be loaded
      */
-    public void showLoadingStorageError() {
-        lastMessage = String.format("%s Failed to load tasks. Starting with an empty list.", warningSymbol);
-        System.out.println(
-                warningSymbol + " [Helix] : Failed to load tasks. Starting with an empty list."
-        );
+    public void showLoadingStorageError(String reason) {
+        String message = "Failed to load tasks: " + reason + "\nNo commands will be run until the task file is fixed, "
+                + "so that it is not overwritten. Restart Helix once it is.";
+        lastMessage = warningSymbol + " " + message;
+        console().println(warningSymbol + " [Helix] : " + message);
     }
 
     /**
@@ -129,7 +175,7 @@ public class ConsoleUi {
      */
     public void showSavingStorageError(String message) {
         lastMessage = String.format("%s Failed to save tasks: %s", warningSymbol, message);
-        System.out.println(
+        console().println(
                 warningSymbol + " [Helix] : Failed to save tasks: " + message
         );
     }
@@ -150,30 +196,32 @@ public class ConsoleUi {
         String taskDetails = task.getTaskDetails();
 
         showLine();
-        System.out.println(folderSymbol + "  Task Added!");
+        console().println(folderSymbol + "  Task Added!");
         showLine();
 
-        System.out.println("  " + clipboardSymbol + " Type: " + taskType.name());
-        System.out.println("  " + noteSymbol + " Description: " + taskDescription);
+        console().println("  " + clipboardSymbol + " Type: " + taskType.name());
+        console().println("  " + noteSymbol + " Description: " + taskDescription);
+        console().println("  " + tagSymbol + " ID: #" + task.getId());
 
         lastMessage = folderSymbol + "  Task Added!\n"
                 + "  " + clipboardSymbol + " Type: " + taskType.name() + "\n"
-                + "  " + noteSymbol + " Description: " + taskDescription + "\n";
+                + "  " + noteSymbol + " Description: " + taskDescription + "\n"
+                + "  " + tagSymbol + " ID: #" + task.getId() + "\n";
 
         if (taskType == TaskType.DEADLINE) {
-            System.out.println("  " + calendarSymbol + " Due: " + taskDetails);
+            console().println("  " + calendarSymbol + " Due: " + taskDetails);
             lastMessage += "  " + calendarSymbol + " Due: " + taskDetails;
         } else if (taskType == TaskType.EVENT) {
             String[] parts = taskDetails.split(" - ");
             String from = parts[0];
             String to = parts[1];
-            System.out.println("  " + clockSymbol + " From: " + from + "\n  " + clockSymbol + " To: " + to);
+            console().println("  " + clockSymbol + " From: " + from + "\n  " + clockSymbol + " To: " + to);
             lastMessage += "  " + clockSymbol + " From: " + parts[0] + "\n  " + clockSymbol + " To: " + parts[1] + "\n";
         }
-        System.out.println("\nYou now have " + taskCount + " task(s) in your list.");
+        console().println("\nYou now have " + taskCount + " task(s) in your list.");
         lastMessage += "\nYou now have " + taskCount + " task(s) in your list.\n";
         showLine();
-        System.out.println();
+        console().println();
     }
 
     /**
@@ -193,31 +241,47 @@ public class ConsoleUi {
         String taskDetails = task.getTaskDetails();
 
         showLine();
-        System.out.println(removedSymbol + "  Task Removed!");
+        console().println(removedSymbol + "  Task Removed!");
         lastMessage = removedSymbol + "  Task Removed!\n";
 
         showLine();
-        System.out.println("  " + typeSymbol + " Type: " + taskType.name());
-        System.out.println("  " + descriptionSymbol + " Description: " + taskDescription);
+        console().println("  " + typeSymbol + " Type: " + taskType.name());
+        console().println("  " + descriptionSymbol + " Description: " + taskDescription);
         lastMessage += "  " + typeSymbol + " Type: " + taskType.name() + "\n"
                 + "  " + descriptionSymbol + " Description: " + taskDescription + "\n";
 
         if (taskType == TaskType.DEADLINE) {
-            System.out.println("  " + calendarSymbol + " Due: " + taskDetails);
+            console().println("  " + calendarSymbol + " Due: " + taskDetails);
             lastMessage += "  " + calendarSymbol + " Due: " + taskDetails;
         } else if (taskType == TaskType.EVENT) {
             String[] parts = taskDetails.split(" - ");
             String from = parts[0];
             String to = parts[1];
-            System.out.println("  " + clockSymbol + " From: " + from + "\n  " + clockSymbol + " To: " + to);
+            console().println("  " + clockSymbol + " From: " + from + "\n  " + clockSymbol + " To: " + to);
             lastMessage += "  " + clockSymbol + " From: " + from + "\n  " + clockSymbol + " To: " + to;
         }
-        System.out.println("  " + completedSymbol + " Task Status: " + taskStatus);
-        System.out.println("\nYou now have " + taskCount + " task(s) in your list.");
+        console().println("  " + completedSymbol + " Task Status: " + taskStatus);
+        console().println("\nYou now have " + taskCount + " task(s) in your list.");
         lastMessage += "  " + completedSymbol + " Task Status: " + taskStatus
                 + "\n\nYou now have " + taskCount + " task(s) in your list.";
         showLine();
-        System.out.println();
+        console().println();
+    }
+
+    /**
+     * Displays a message indicating that several tasks have been removed at once.
+     *
+     * @param removedCount the number of tasks removed
+     * @param taskCount the number of tasks left in the list
+     */
+    public void showTasksRemoved(int removedCount, int taskCount) {
+        lastMessage = removedSymbol + "  Removed " + removedCount + " task(s)!\n\n"
+                + "You now have " + taskCount + " task(s) in your list.";
+
+        showLine();
+        console().println(lastMessage);
+        showLine();
+        console().println();
     }
 
     /**
@@ -226,36 +290,85 @@ public class ConsoleUi {
      * @param tasks the {@link List} of {@link Task} objects to display
      */
     public void showTaskList(List<Task> tasks) {
-        System.out.println(helixSymbol + " [Helix] : Listing tasks...");
-        showLine();
-        System.out.println(noteSymbol + " Task List:");
+        showTaskList(tasks, 0, tasks.size());
+    }
 
-        lastMessage = "Listing tasks...\n" + noteSymbol + " Task List:\n";
+    /**
+     * Displays a page of the task list to the user, numbered by position in the whole list.
+     *
+     * <p>
+     * Only the tasks on the page are rendered, once, so the cost depends on the page size rather than the
+     * list size. The rendered lines are printed to the console and kept as the last message, which the GUI
+     * and the server reply with.
+     * </p>
+     *
+     * @param tasks the {@link List} of {@link Task} objects to display from
+     * @param offset the number of tasks to skip
+     * @param limit the maximum number of tasks to display
+     */
+    public void showTaskList(List<Task> tasks, int offset, int limit) {
+        int from = Math.min(offset, tasks.size());
+        int to = from + Math.min(limit, tasks.size() - from);
+        String footer = getTaskListFooter(tasks.size(), from, to);
+
+        StringBuilder messageBuilder = new StringBuilder(128 + (to - from) * ESTIMATED_TASK_LINE_LENGTH);
+        messageBuilder.append("Listing tasks...\n").append(noteSymbol).append(" Task List:\n");
+        int headerLength = messageBuilder.length();
+        appendTaskLines(messageBuilder, tasks, from, to);
+        if (footer != null) {
+            messageBuilder.append(footer);
+        }
+        lastMessage = messageBuilder.toString();
 
-        if (tasks.isEmpty()) {
-            System.out.println("There's no pending tasks.");
-            showLine();
-            System.out.println();
-            lastMessage += "There's no pending tasks.";
-            return;
+        console().println(helixSymbol + " [Helix] : Listing tasks...");
+        showLine();
+        console().println(noteSymbol + " Task List:");
+        console().print(lastMessage.substring(headerLength));
+        if (footer != null) {
+            console().println();
         }
+        showLine();
+        console().println();
+    }
 
-        StringBuilder messageBuilder = new StringBuilder();
-        for (int i = 0; i < tasks.size(); i++) {
-            System.out.printf("    %d. %s%n", i + 1, tasks.get(i));
-            messageBuilder.append(String.format("    %d. %s%n", i + 1, tasks.get(i)));
+    /**
+     * Builds the line shown below a page of the task list, if any.
+     *
+     * @param taskCount the number of tasks in the whole list
+     * @param from the index of the first task on the page
+     * @param to the index after the last task on the page
+     * @return the line to show, or null if the page shows the whole list
+     */
+    private static String getTaskListFooter(int taskCount, int from, int to) {
+        if (taskCount == 0) {
+            return "There's no pending tasks.";
+        } else if (from == to) {
+            return "There are no tasks on this page. You have " + taskCount + " task(s) in your list.";
+        } else if (to - from < taskCount) {
+            return "Showing tasks " + (from + 1) + "-" + to + " of " + taskCount + ".";
         }
-        lastMessage += messageBuilder.toString();
+        return null;
+    }
 
-        showLine();
-        System.out.println();
+    /**
+     * Appends numbered task lines, each ending with a line feed, to a message being built.
+     *
+     * @param messageBuilder the message to append to
+     * @param tasks the {@link List} of {@link Task} objects to take the tasks from
+     * @param from the index of the first task to append
+     * @param to the index after the last task to append
+     */
+    private static void appendTaskLines(StringBuilder messageBuilder, List<Task> tasks, int from, int to) {
+        for (int i = from; i < to; i++) {
+            messageBuilder.append("    ").append(i + 1).append(". ").append(tasks.get(i).toString()).append('\n');
+        }
     }
 
     /**
      * Displays a message indicating that the task is already marked as completed.
      */
     public void showTaskAlreadyCompleted() {
-        System.out.println(helixSymbol + " [Helix] : This task is already marked as done!\n");
+        console().println(helixSymbol + " [Helix] : This task is already marked as done!\n");
         lastMessage = warningSymbol + " This task is already completed!";
     }
 
@@ -265,16 +378,30 @@ public class ConsoleUi {
      * @param task the {@link Task} that was marked as complete
      */
     public void showTaskMarkedComplete(Task task) {
-        System.out.println(checkSymbol + " [Helix] : Task marked as complete!");
-        System.out.println("    " + task + "\n");
+        console().println(checkSymbol + " [Helix] : Task marked as complete!");
+        console().println("    " + task + "\n");
         lastMessage = checkSymbol + " Task marked as complete!\n" + "    " + task;
     }
 
+    /**
+     * Displays a message indicating that several tasks were marked as complete at once.
+     *
+     * @param markedCount the number of tasks marked as complete
+     * @param selectedCount the number of tasks selected, including those already complete
+     */
+    public void showTasksMarkedComplete(int markedCount, int selectedCount) {
+        lastMessage = checkSymbol + " Marked " + markedCount + " task(s) as complete!";
+        if (selectedCount > markedCount) {
+            lastMessage += "\n    " + (selectedCount - markedCount) + " task(s) were already done.";
+        }
+        console().println(lastMessage + "\n");
+    }
+
     /**
      * Displays a message indicating that the task is already marked as pending.
      */
     public void showTaskAlreadyPending() {
-        System.out.println(helixSymbol + " [Helix] : This task is already not done!\n");
+        console().println(helixSymbol + " [Helix] : This task is already not done!\n");
         lastMessage = warningSymbol + " This task is already pending!";
     }
 
@@ -284,11 +411,25 @@ public class ConsoleUi {
      * @param task the {@link Task} that was marked as pending
      */
     public void showTaskMarkedPending(Task task) {
-        System.out.println(crossSymbol + " [Helix] : Task marked as incomplete!");
-        System.out.println("    " + task + "\n");
+        console().println(crossSymbol + " [Helix] : Task marked as incomplete!");
+        console().println("    " + task + "\n");
         lastMessage = crossSymbol + " Task marked as incomplete!\n" + "    " + task;
     }
 
+    /**
+     * Displays a message indicating that several tasks were marked as pending at once.
+     *
+     * @param unmarkedCount the number of tasks marked as pending
+     * @param selectedCount the number of tasks selected, including those already pending
+     */
+    public void showTasksMarkedPending(int unmarkedCount, int selectedCount) {
+        lastMessage = crossSymbol + " Marked " + unmarkedCount + " task(s) as incomplete!";
+        if (selectedCount > unmarkedCount) {
+            lastMessage += "\n    " + (selectedCount - unmarkedCount) + " task(s) were already not done.";
+        }
+        console().println(lastMessage + "\n");
+    }
+
     /**
      * Displays the matching tasks found in the task list.
      *
@@ -296,24 +437,100 @@ public class ConsoleUi {
      */
     public void showMatchingTasks(List<Task> matchingTasks) {
         assert matchingTasks != null : "matchingTasks list should not be null!";
+        showTaskResults(matchingTasks, "No matching tasks found!", "Tasks with matching keywords...");
+    }
+
+    /**
+     * Displays the tasks that best match a search, most relevant first.
+     *
+     * @param bestMatches the list of best matching tasks
+     */
+    public void showSearchResults(List<Task> bestMatches) {
+        assert bestMatches != null : "bestMatches list should not be null!";
+        showTaskResults(bestMatches, "No similar tasks found!", "Best matches, most relevant first...");
+    }
 
-        if (matchingTasks.isEmpty()) {
-            System.out.println(helixSymbol + " [Helix] : No matching tasks found!");
-            lastMessage = "No matching tasks found!";
+    /**
+     * Displays the deadlines due within the requested period.
+     *
+     * @param dueTasks the list of deadlines due within the period
+     */
+    public void showDueTasks(List<Task> dueTasks) {
+        assert dueTasks != null : "dueTasks list should not be null!";
+        showTaskResults(dueTasks, "No deadlines are due in that period!", "Deadlines due in that period...");
+    }
+
+    /**
+     * Displays the pending deadlines due before the requested time.
+     *
+     * @param pendingTasks the list of pending deadlines due before that time
+     */
+    public void showPendingDeadlines(List<Task> pendingTasks) {
+        assert pendingTasks != null : "pendingTasks list should not be null!";
+        showTaskResults(pendingTasks, "No pending deadlines are due before then!",
+                "Pending deadlines due before then...");
+    }
+
+    /**
+     * Displays the events that overlap the requested period.
+     *
+     * @param overlappingEvents the list of events overlapping the period
+     */
+    public void showOverlappingEvents(List<Task> overlappingEvents) {
+        assert overlappingEvents != null : "overlappingEvents list should not be null!";
+        showTaskResults(overlappingEvents, "No events overlap that period!", "Events overlapping that period...");
+    }
+
+    /**
+     * Displays the results of a query as a numbered list, or a message if there are none.
+     *
+     * @param results the tasks to display
+     * @param emptyMessage the message shown when there are no results
+     * @param header the message shown above the results
+     */
+    private void showTaskResults(List<Task> results, String emptyMessage, String header) {
+        if (results.isEmpty()) {
+            console().println(helixSymbol + " [Helix] : " + emptyMessage);
+            lastMessage = emptyMessage;
         } else {
             showLine();
-            System.out.println(helixSymbol + " [Helix] : Tasks with matching keywords...");
-            lastMessage = "Tasks with matching keywords...\n";
+            console().println(helixSymbol + " [Helix] : " + header);
+            lastMessage = header + "\n";
 
             StringBuilder messageBuilder = new StringBuilder();
-            for (int i = 0; i < matchingTasks.size(); i++) {
-                System.out.printf("    %d. %s%n", i + 1, matchingTasks.get(i));
-                messageBuilder.append(String.format("    %d. %s%n", i + 1, matchingTasks.get(i)));
+            for (int i = 0; i < results.size(); i++) {
+                console().printf("    %d. %s%n", i + 1, results.get(i));
+                messageBuilder.append(String.format("    %d. %s%n", i + 1, results.get(i)));
             }
             lastMessage += messageBuilder.toString();
             showLine();
         }
-        System.out.println();
+        console().println();
+    }
+
+    /**
+     * Displays the result of each command in a batch, followed by how long the batch took.
+     *
+     * @param commands the commands in the batch, as entered
+     * @param results the message each command produced
+     * @param elapsedNanos the time taken to run the batch, in nanoseconds
+     */
+    public void showBatchResults(List<String> commands, List<String> results, long elapsedNanos) {
+        StringBuilder messageBuilder = new StringBuilder("Batch results...\n");
+        for (int i = 0; i < commands.size(); i++) {
+            messageBuilder.append(i + 1).append(". ").append(commands.get(i)).append('\n')
+                    .append(results.get(i).strip()).append("\n\n");
+        }
+        long elapsedMicros = Math.max(1, elapsedNanos / 1000);
+        messageBuilder.append("Ran ").append(commands.size()).append(" command(s) in ")
+                .append(elapsedMicros / 1000).append(" ms (")
+                .append(commands.size() * 1_000_000L / elapsedMicros).append(" commands/s).");
+        lastMessage = messageBuilder.toString();
+
+        showLine();
+        console().println(helixSymbol + " [Helix] : " + lastMessage);
+        showLine();
+        console().println();
     }
 
     /**
@@ -322,7 +539,7 @@ public class ConsoleUi {
      * @param task The task that was updated.
      */
     public void showTaskUpdated(Task task) {
-        System.out.println(helixSymbol + " [Helix] : Task updated successfully:\n  " + task + "\n");
+        console().println(helixSymbol + " [Helix] : Task updated successfully:\n  " + task + "\n");
         lastMessage = checkSymbol + " Task updated successfully!\n" + "    " + task;
     }
 
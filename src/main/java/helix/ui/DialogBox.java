@@ -1,14 +1,11 @@
 package helix.ui;
 
 import java.io.IOException;
-import java.util.Collections;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import helix.enums.Speaker;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -16,20 +13,26 @@ import javafx.scene.layout.HBox;
 
 /**
  * Represents a dialog box containing a speaker's image and text message.
+ *
+ * <p>
+ * A dialog box is built once by a {@link DialogCell} and then reused for whichever message the cell shows,
+ * so the FXML is only loaded for the few cells that fit on screen.
+ * </p>
  */
 public class DialogBox extends HBox {
+    private static final String REPLY_STYLE_CLASS = "reply-label";
+
     @FXML
     private Label dialog;
     @FXML
     private ImageView displayPicture;
 
+    private Speaker speaker = Speaker.USER;
+
     /**
-     * Creates a dialog box with the given text and image.
-     *
-     * @param text the text message to be displayed
-     * @param img the speaker's image
+     * Creates an empty dialog box laid out for user messages.
      */
-    private DialogBox(String text, Image img) {
+    public DialogBox() {
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
             fxmlLoader.setController(this);
@@ -38,43 +41,31 @@ public class DialogBox extends HBox {
         } catch (IOException e) {
             e.printStackTrace();
         }
-
-        dialog.setText(text);
-        displayPicture.setImage(img);
-    }
-
-    /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
-     */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.TOP_LEFT);
-        dialog.getStyleClass().add("reply-label");
     }
 
     /**
-     * Creates a dialog box for user messages.
+     * Shows a message in the dialog box, flipping it if the speaker differs from the previous message.
+     * User messages have the image on the right and Helix responses have it on the left.
      *
-     * @param text the text message from the user
-     * @param img the user's image
-     * @return a dialog box representing the user message
-     */
-    public static DialogBox getUserDialog(String text, Image img) {
-        return new DialogBox(text, img);
-    }
-
-    /**
-     * Creates a dialog box for Helix responses.
-     *
-     * @param text the text message from Helix
-     * @param img the Helix assistant's image
-     * @return a dialog box representing the Helix response
+     * @param text the text message to be displayed
+     * @param img the speaker's image
+     * @param newSpeaker who the message comes from
      */
-    public static DialogBox getHelixDialog(String text, Image img) {
-        var db = new DialogBox(text, img);
-        db.flip();
-        return db;
+    public void setMessage(String text, Image img, Speaker newSpeaker) {
+        dialog.setText(text);
+        displayPicture.setImage(img);
+        if (newSpeaker == speaker) {
+            return;
+        }
+        speaker = newSpeaker;
+        if (speaker == Speaker.HELIX) {
+            getChildren().setAll(displayPicture, dialog);
+            setAlignment(Pos.TOP_LEFT);
+            dialog.getStyleClass().add(REPLY_STYLE_CLASS);
+        } else {
+            getChildren().setAll(dialog, displayPicture);
+            setAlignment(Pos.TOP_RIGHT);
+            dialog.getStyleClass().remove(REPLY_STYLE_CLASS);
+        }
     }
 }
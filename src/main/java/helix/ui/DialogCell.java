@@ -0,0 +1,55 @@
+package helix.ui;
+
+import helix.enums.Speaker;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+
+/**
+ * Displays a {@link DialogEntry} in the conversation list.
+ *
+ * <p>
+ * The list view only creates enough cells to fill the visible area and reuses them as the user scrolls,
+ * so each cell builds its {@link DialogBox} once and only changes its text, image and orientation afterwards.
+ * </p>
+ */
+public class DialogCell extends ListCell<DialogEntry> {
+    private static final double SCROLL_BAR_ALLOWANCE = 20.0;
+
+    private final DialogBox dialogBox = new DialogBox();
+    private final Image userImage;
+    private final Image helixImage;
+
+    /**
+     * Constructs a DialogCell for the given list view.
+     *
+     * @param listView the list view the cell belongs to, whose width the dialog box follows
+     * @param userImage the image shown next to user messages
+     * @param helixImage the image shown next to Helix responses
+     */
+    public DialogCell(ListView<DialogEntry> listView, Image userImage, Image helixImage) {
+        this.userImage = userImage;
+        this.helixImage = helixImage;
+        dialogBox.prefWidthProperty().bind(listView.widthProperty().subtract(SCROLL_BAR_ALLOWANCE));
+        dialogBox.maxWidthProperty().bind(dialogBox.prefWidthProperty());
+        setPrefWidth(0);
+    }
+
+    /**
+     * Shows the given entry in the recycled dialog box, or clears the cell if it is empty.
+     *
+     * @param entry the entry to show
+     * @param isEmpty whether the cell is empty
+     */
+    @Override
+    protected void updateItem(DialogEntry entry, boolean isEmpty) {
+        super.updateItem(entry, isEmpty);
+        if (isEmpty || entry == null) {
+            setGraphic(null);
+            return;
+        }
+        Image image = entry.getSpeaker() == Speaker.USER ? userImage : helixImage;
+        dialogBox.setMessage(entry.getText(), image, entry.getSpeaker());
+        setGraphic(dialogBox);
+    }
+}
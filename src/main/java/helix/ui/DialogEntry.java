@@ -0,0 +1,40 @@
+package helix.ui;
+
+import helix.enums.Speaker;
+
+/**
+ * Represents one message in the conversation history shown by the {@link MainWindow}.
+ */
+public class DialogEntry {
+    private final Speaker speaker;
+    private final String text;
+
+    /**
+     * Constructs a DialogEntry with the given speaker and text.
+     *
+     * @param speaker who the message comes from
+     * @param text the message text
+     */
+    public DialogEntry(Speaker speaker, String text) {
+        this.speaker = speaker;
+        this.text = text;
+    }
+
+    /**
+     * Retrieves who the message comes from.
+     *
+     * @return the speaker of the message
+     */
+    public Speaker getSpeaker() {
+        return speaker;
+    }
+
+    /**
+     * Retrieves the text of the message.
+     *
+     * @return the message text
+     */
+    public String getText() {
+        return text;
+    }
+}
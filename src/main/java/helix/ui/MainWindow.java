@@ -1,27 +1,38 @@
 package helix.ui;
 
 import helix.Helix;
+import helix.command.CommandFactory;
+import helix.enums.Speaker;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
-import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 /**
  * Controls the layout and interactions for the MainWindow GUI.
+ *
+ * <p>
+ * The conversation is shown in a {@link ListView}, which only keeps nodes for the messages on screen.
+ * At most {@value #MAX_HISTORY_SIZE} messages are kept; older ones are dropped as new ones arrive.
+ * </p>
  */
 public class MainWindow {
+    private static final int MAX_HISTORY_SIZE = 500;
+
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<DialogEntry> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
 
+    private final ObservableList<DialogEntry> dialogHistory = FXCollections.observableArrayList();
+
     private Helix helix;
     private Stage stage;
 
@@ -33,7 +44,7 @@ public class MainWindow {
      */
     @FXML
     public void initialize() {
-        configureScrollPane();
+        configureDialogList();
         showWelcomeMessage();
     }
 
@@ -54,21 +65,19 @@ public class MainWindow {
     }
 
     /**
-     * Configures the scroll pane properties.
+     * Configures the dialog list to show the conversation history with recycled cells.
      */
-    private void configureScrollPane() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
-        scrollPane.setFitToWidth(true);
+    private void configureDialogList() {
+        dialogList.setItems(dialogHistory);
+        dialogList.setCellFactory(listView -> new DialogCell(listView, userImage, helixImage));
+        dialogList.setFocusTraversable(false);
     }
 
     /**
      * Displays the welcome message when the window starts.
      */
     private void showWelcomeMessage() {
-        dialogContainer.getChildren().add(DialogBox.getHelixDialog(
-                "Welcome to Helix! How can I assist you today?",
-                helixImage)
-        );
+        addDialog(new DialogEntry(Speaker.HELIX, "Welcome to Helix! How can I assist you today?"));
     }
 
     /**
@@ -83,33 +92,48 @@ public class MainWindow {
 
     /**
      * Processes user input and updates the UI accordingly.
+     * The command runs off the JavaFX application thread and its response is shown once it completes;
+     * responses arrive in the order the commands were entered.
      */
     private void processUserInput(String input) {
-        String response = helix.executeCommand(input);
         displayUserDialog(input);
-        displayHelixResponse(response);
-        checkExitCommand(input);
+        helix.executeCommandAsync(input).thenAcceptAsync(response -> {
+            displayHelixResponse(response);
+            checkExitCommand(input);
+        }, Platform::runLater);
     }
 
     /**
-     * Displays the user input in the dialog container.
+     * Displays the user input in the dialog list.
      */
     private void displayUserDialog(String input) {
-        dialogContainer.getChildren().add(DialogBox.getUserDialog(input, userImage));
+        addDialog(new DialogEntry(Speaker.USER, input));
     }
 
     /**
-     * Displays Helix's response in the dialog container.
+     * Displays Helix's response in the dialog list.
      */
     private void displayHelixResponse(String response) {
-        dialogContainer.getChildren().add(DialogBox.getHelixDialog(response, helixImage));
+        addDialog(new DialogEntry(Speaker.HELIX, response));
+    }
+
+    /**
+     * Adds a message to the history, dropping the oldest messages beyond the history limit,
+     * and scrolls to it.
+     */
+    private void addDialog(DialogEntry entry) {
+        dialogHistory.add(entry);
+        if (dialogHistory.size() > MAX_HISTORY_SIZE) {
+            dialogHistory.remove(0, dialogHistory.size() - MAX_HISTORY_SIZE);
+        }
+        dialogList.scrollTo(dialogHistory.size() - 1);
     }
 
     /**
      * Checks if the input is an exit command and closes the application if necessary.
      */
     private void checkExitCommand(String input) {
-        if (input.trim().equalsIgnoreCase("bye") && stage != null) {
+        if (CommandFactory.isExitCommand(input) && stage != null) {
             stage.close();
         }
     }
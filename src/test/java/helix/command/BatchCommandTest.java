@@ -0,0 +1,92 @@
+package helix.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.enums.TaskStatus;
+import helix.exception.HelixException;
+import helix.exception.InvalidBatchFileException;
+import helix.stub.StubStorage;
+import helix.task.TaskList;
+import helix.ui.ConsoleUi;
+
+/**
+ * Tests the {@code batch} command.
+ */
+public class BatchCommandTest {
+
+    private StubStorage storage;
+    private TaskList taskList;
+    private ConsoleUi consoleUi;
+    private Path batchFile;
+
+    /**
+     * Sets up an empty task list and a temporary batch file.
+     *
+     * @throws IOException if the temporary file cannot be created
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new StubStorage();
+        taskList = new TaskList(storage);
+        consoleUi = new ConsoleUi();
+        batchFile = Files.createTempFile("helix-batch", ".txt");
+    }
+
+    /**
+     * Deletes the temporary batch file.
+     *
+     * @throws IOException if the file cannot be deleted
+     */
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(batchFile);
+    }
+
+    /**
+     * Tests that every command in the file runs and that their changes are saved only once.
+     *
+     * @throws Exception if the batch file cannot be written or the batch fails
+     */
+    @Test
+    void execute_validFile_allCommandsRunWithOneSave() throws Exception {
+        Files.writeString(batchFile, "todo Read book\n\ntodo Write essay\nmark 1\nmark 5\n");
+
+        CommandFactory.parseCommand("batch " + batchFile).execute(taskList, consoleUi);
+
+        assertEquals(2, taskList.getTaskCount());
+        assertEquals(TaskStatus.COMPLETED, taskList.getTask(0).getTaskStatus());
+        assertEquals(1, storage.getSaveCount());
+        String message = consoleUi.getLastMessage();
+        assertTrue(message.contains("4. mark 5"), "Blank lines should not be numbered as commands.");
+        assertTrue(message.contains("Ran 4 command(s) in "), "The throughput should be reported.");
+    }
+
+    /**
+     * Tests that a file with an invalid command is rejected before any command runs.
+     *
+     * @throws IOException if the batch file cannot be written
+     * @throws HelixException if the batch command cannot be parsed
+     */
+    @Test
+    void execute_invalidCommand_nothingRun() throws IOException, HelixException {
+        Files.writeString(batchFile, "todo Read book\nfly away\n");
+        Command command = CommandFactory.parseCommand("batch " + batchFile);
+
+        InvalidBatchFileException exception = assertThrows(InvalidBatchFileException.class,
+                () -> command.execute(taskList, consoleUi));
+
+        assertTrue(exception.getMessage().contains("Command 2"), "The invalid command should be named.");
+        assertEquals(0, taskList.getTaskCount());
+        assertEquals(0, storage.getSaveCount());
+    }
+}
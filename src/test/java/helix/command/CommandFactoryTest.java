@@ -0,0 +1,74 @@
+package helix.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import helix.enums.CommandType;
+import helix.exception.HelixException;
+import helix.exception.InvalidCommandException;
+
+/**
+ * Tests how {@link CommandFactory} recognises command names.
+ */
+public class CommandFactoryTest {
+
+    /**
+     * Tests that an alias creates the same kind of command as the full name, ignoring case.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void parseCommand_alias_commandCreated() throws HelixException {
+        Command command = CommandFactory.parseCommand("RM 2");
+
+        assertEquals(CommandType.DELETE, command.getCommandType());
+    }
+
+    /**
+     * Tests that a prefix shared by no other command creates that command.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void parseCommand_uniquePrefix_commandCreated() throws HelixException {
+        Command command = CommandFactory.parseCommand("un 2");
+
+        assertEquals(CommandType.UNMARK, command.getCommandType());
+    }
+
+    /**
+     * Tests that a prefix shared by several commands is rejected.
+     */
+    @Test
+    void parseCommand_ambiguousPrefix_exceptionThrown() {
+        assertThrows(InvalidCommandException.class, () -> CommandFactory.parseCommand("de 2"));
+    }
+
+    /**
+     * Tests that the exit command is recognised under its aliases and prefixes, and only when it is valid.
+     */
+    @Test
+    void isExitCommand_aliasesAndPrefix_recognised() {
+        assertTrue(CommandFactory.isExitCommand("bye"));
+        assertTrue(CommandFactory.isExitCommand(" Exit "));
+        assertTrue(CommandFactory.isExitCommand("quit"));
+        assertTrue(CommandFactory.isExitCommand("by"));
+        assertFalse(CommandFactory.isExitCommand("bye now"));
+        assertFalse(CommandFactory.isExitCommand("list"));
+    }
+
+    /**
+     * Tests that batch commands are kept from server clients under every name they can be entered as.
+     */
+    @Test
+    void isServerCommand_batchByAnyName_rejected() {
+        assertFalse(CommandFactory.isServerCommand("batch /etc/passwd"));
+        assertFalse(CommandFactory.isServerCommand("  Ba /etc/passwd"));
+        assertTrue(CommandFactory.isServerCommand("list"));
+        assertTrue(CommandFactory.isServerCommand("nonsense"));
+    }
+}
@@ -0,0 +1,131 @@
+package helix.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.exception.HelixException;
+import helix.exception.InvalidNumberFormatException;
+import helix.stub.StubStorage;
+import helix.task.TaskList;
+import helix.task.Todo;
+import helix.ui.ConsoleUi;
+
+/**
+ * Tests the paging behavior of the {@code list} command.
+ */
+public class ListCommandTest {
+
+    private TaskList taskList;
+    private ConsoleUi consoleUi;
+
+    /**
+     * Sets up a task list holding 45 todos.
+     *
+     * @throws IOException if an error occurs during setup (unlikely with {@link StubStorage})
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        consoleUi = new ConsoleUi();
+        taskList = new TaskList(new StubStorage());
+        for (int i = 1; i <= 45; i++) {
+            taskList.addTask(new Todo("Task " + i), consoleUi);
+        }
+    }
+
+    /**
+     * Tests that a page number shows only that page, numbered by position in the whole list.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void execute_secondPage_onlyPageShown() throws HelixException {
+        CommandFactory.parseCommand("list 2").execute(taskList, consoleUi);
+
+        String message = consoleUi.getLastMessage();
+        assertTrue(message.contains("21. [T][ ] Task 21"), "The page should start at task 21.");
+        assertTrue(message.contains("40. [T][ ] Task 40"), "The page should end at task 40.");
+        assertEquals(-1, message.indexOf("41. "), "Tasks after the page should not be shown.");
+        assertTrue(message.endsWith("Showing tasks 21-40 of 45."), "The shown range should be reported.");
+    }
+
+    /**
+     * Tests that a limit and offset select the given range of tasks.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void execute_limitAndOffset_rangeShown() throws HelixException {
+        CommandFactory.parseCommand("list --offset 43 --limit 5").execute(taskList, consoleUi);
+
+        String message = consoleUi.getLastMessage();
+        assertEquals(-1, message.indexOf("43. "), "The offset should skip the first 43 tasks.");
+        assertTrue(message.contains("44. [T][ ] Task 44"), "Task 44 should be shown.");
+        assertTrue(message.endsWith("Showing tasks 44-45 of 45."), "The range should stop at the last task.");
+    }
+
+    /**
+     * Tests that {@code list} without a page shows the first page on the console and in the message,
+     * and that the message uses a single line separator.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void execute_noPage_firstPageShown() throws HelixException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            CommandFactory.parseCommand("list").execute(taskList, consoleUi);
+        } finally {
+            System.setOut(console);
+        }
+
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("    20. [T][ ] Task 20" + System.lineSeparator()), "The page should be printed.");
+        assertTrue(printed.contains("Showing tasks 1-20 of 45."), "The shown range should be printed.");
+        String message = consoleUi.getLastMessage();
+        assertTrue(message.contains("    1. [T][ ] Task 1\n"), "The page should start at task 1.");
+        assertEquals(-1, message.indexOf("21. "), "Tasks after the first page should not be shown.");
+        assertTrue(message.endsWith("Showing tasks 1-20 of 45."), "The shown range should be reported.");
+        assertEquals(-1, message.indexOf('\r'), "The message should only separate lines with \\n.");
+    }
+
+    /**
+     * Tests that a quiet {@link ConsoleUi} prints nothing to the console but still keeps the message.
+     *
+     * @throws HelixException if the command cannot be parsed
+     */
+    @Test
+    void execute_quietConsoleUi_nothingPrinted() throws HelixException {
+        ConsoleUi quietUi = new ConsoleUi(true);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            CommandFactory.parseCommand("list").execute(taskList, quietUi);
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals(0, output.size(), "A quiet ConsoleUi should not print anything.");
+        assertTrue(quietUi.getLastMessage().endsWith("Showing tasks 1-20 of 45."), "The message should be kept.");
+    }
+
+    /**
+     * Tests that page zero is rejected.
+     */
+    @Test
+    void parseCommand_pageZero_exceptionThrown() {
+        assertThrows(InvalidNumberFormatException.class, () -> CommandFactory.parseCommand("list 0"),
+                "Pages should be numbered from 1.");
+    }
+}
@@ -0,0 +1,186 @@
+package helix.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.command.CommandFactory;
+
+/**
+ * Tests the behavior of the {@code HelixServer} class with a command handler that echoes its input.
+ */
+public class HelixServerTest {
+
+    private HelixServer server;
+    private Thread serverThread;
+
+    /**
+     * Starts a server on a free port whose responses repeat the command and add a line starting with a dot.
+     * Like the real server, it rejects the commands that clients may not run and recognises exit commands
+     * by parsing them.
+     *
+     * @throws IOException if the server could not be started
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new HelixServer(command -> "echo " + command + "\n.end", CommandFactory::isServerCommand,
+                CommandFactory::isExitCommand, 0, 4);
+        serverThread = new Thread(() -> {
+            try {
+                server.run();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serverThread.start();
+    }
+
+    /**
+     * Stops the server.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server to stop
+     */
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        server.close();
+        serverThread.join();
+    }
+
+    /**
+     * Tests that pipelined commands are answered in order, with dot-prefixed lines escaped.
+     *
+     * @throws IOException if the connection fails
+     */
+    @Test
+    void run_pipelinedCommands_answeredInOrder() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            out.write("first\r\nsecond\n\nbye\n");
+            out.flush();
+
+            assertEquals(List.of("echo first", "..end"), readResponse(in),
+                    "The first command should be answered first.");
+            assertEquals(List.of("echo second", "..end"), readResponse(in), "The second command should come next.");
+            assertEquals(List.of("echo bye", "..end"), readResponse(in), "Blank lines should be skipped.");
+            assertEquals(null, in.readLine(), "The connection should close after bye.");
+        }
+    }
+
+    /**
+     * Tests that every name of the exit command closes the connection, not only {@code bye}.
+     *
+     * @throws IOException if the connection fails
+     */
+    @Test
+    void run_exitAliases_connectionClosed() throws IOException {
+        for (String exitCommand : List.of("exit", "QUIT", "by")) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+                out.write(exitCommand + "\n");
+                out.flush();
+
+                assertEquals(List.of("echo " + exitCommand, "..end"), readResponse(in),
+                        "The exit command should be answered.");
+                assertEquals(null, in.readLine(), "The connection should close after " + exitCommand + ".");
+            }
+        }
+    }
+
+    /**
+     * Tests that batch commands, which read files on the server, are rejected without being run.
+     *
+     * @throws IOException if the connection fails
+     */
+    @Test
+    void run_batchCommand_rejected() throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+
+            out.write("batch /etc/passwd\nBAT /etc/passwd\nlist\n");
+            out.flush();
+
+            assertEquals(List.of("This command cannot be run over the server."), readResponse(in),
+                    "A batch command should not be run.");
+            assertEquals(List.of("This command cannot be run over the server."), readResponse(in),
+                    "A batch command entered by prefix should not be run either.");
+            assertEquals(List.of("echo list", "..end"), readResponse(in), "Other commands should still run.");
+        }
+    }
+
+    /**
+     * Tests that many clients connected at once each receive the responses to their own commands.
+     *
+     * @throws Exception if a client fails
+     */
+    @Test
+    void run_concurrentClients_eachReceivesOwnResponses() throws Exception {
+        int clientCount = 16;
+        int commandsPerClient = 50;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int c = 0; c < clientCount; c++) {
+            int clientId = c;
+            results.add(clients.submit(() -> {
+                int correctResponses = 0;
+                try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+                    Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+                    BufferedReader in = new BufferedReader(
+                            new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                    for (int i = 0; i < commandsPerClient; i++) {
+                        out.write("client " + clientId + " command " + i + "\n");
+                        out.flush();
+                        if (readResponse(in).get(0).equals("echo client " + clientId + " command " + i)) {
+                            correctResponses++;
+                        }
+                    }
+                }
+                return correctResponses;
+            }));
+        }
+
+        for (Future<Integer> result : results) {
+            assertEquals(commandsPerClient, (int) result.get(), "Every client should get its own responses.");
+        }
+        clients.shutdown();
+    }
+
+    /**
+     * Reads one response, up to the line holding a single dot.
+     *
+     * @param in the connection's input
+     * @return the lines of the response
+     * @throws IOException if reading fails
+     */
+    private static List<String> readResponse(BufferedReader in) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
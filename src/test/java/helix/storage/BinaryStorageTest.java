@@ -0,0 +1,121 @@
+package helix.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.enums.TaskStatus;
+import helix.task.Deadline;
+import helix.task.Event;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Tests the behavior of the {@code BinaryStorage} class.
+ */
+public class BinaryStorageTest {
+
+    private Path textFile;
+    private BinaryStorage storage;
+
+    /**
+     * Sets up the test environment by creating a temporary directory for the text and binary files.
+     *
+     * @throws IOException if an error occurs while creating the temporary directory
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        textFile = Files.createTempDirectory("test_binary").resolve("tasks.txt");
+        storage = new BinaryStorage(textFile.toString());
+    }
+
+    /**
+     * Tests that every task type survives a round trip through the binary snapshot.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void saveAndLoad_mixedTasks_tasksRestored() throws IOException {
+        // Arrange
+        Task deadline = new Deadline("Submit report", "2025-01-30 1700");
+        deadline.markAsDone();
+        List<Task> tasks = List.of(
+                new Todo("Read book ✨"),
+                deadline,
+                new Event("Team meeting", "2/10/2019 1400", "2/10/2019 1600"));
+
+        // Act
+        storage.save(tasks);
+        List<Task> loadedTasks = new BinaryStorage(textFile.toString()).load();
+
+        // Assert
+        assertEquals(3, loadedTasks.size(), "All tasks should be loaded.");
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(tasks.get(i).toString(), loadedTasks.get(i).toString(), "Task " + i + " should match.");
+        }
+        assertEquals(TaskStatus.COMPLETED, loadedTasks.get(1).getTaskStatus(), "The status should be kept.");
+    }
+
+    /**
+     * Tests that tasks are imported from the text file when no binary snapshot exists yet.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_noSnapshot_tasksImportedFromText() throws IOException {
+        // Arrange
+        new Storage(textFile.toString()).save(List.of(new Todo("Imported task")));
+
+        // Act
+        List<Task> loadedTasks = storage.load();
+
+        // Assert
+        assertEquals(1, loadedTasks.size(), "The text file should be imported.");
+        assertEquals("Imported task", loadedTasks.get(0).getDescription(), "The description should match.");
+    }
+
+    /**
+     * Tests that exported tasks can be loaded from the text file by the text backend.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void exportText_savedTasks_textFileHoldsTasks() throws IOException {
+        // Arrange
+        storage.load();
+        storage.save(List.of(new Todo("Exported task")));
+
+        // Act
+        storage.exportText(storage.load());
+        List<Task> loadedTasks = new Storage(textFile.toString()).load();
+
+        // Assert
+        assertEquals(1, loadedTasks.size(), "The exported task should be in the text file.");
+        assertEquals("Exported task", loadedTasks.get(0).getDescription(), "The description should match.");
+    }
+
+    /**
+     * Tests that a snapshot with a damaged byte is rejected instead of loaded.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_damagedSnapshot_throwsIOException() throws IOException {
+        // Arrange
+        storage.save(List.of(new Todo("Read book")));
+        Path binaryFile = textFile.resolveSibling("tasks.bin");
+        byte[] snapshot = Files.readAllBytes(binaryFile);
+        snapshot[snapshot.length - Integer.BYTES - 1] ^= 1; // Flip a bit in the last description byte
+        Files.write(binaryFile, snapshot);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> storage.load(), "A checksum mismatch should be reported.");
+    }
+}
@@ -0,0 +1,93 @@
+package helix.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.enums.MutationType;
+import helix.enums.TaskStatus;
+import helix.task.Deadline;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Tests the behavior of the {@code IncrementalStorage} class.
+ */
+public class IncrementalStorageTest {
+
+    private Path tempFile;
+    private IncrementalStorage storage;
+
+    /**
+     * Sets up the test environment by saving a small task file to a temporary location.
+     *
+     * @throws IOException if an error occurs while creating the temporary file
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFile = Files.createTempFile("test_incremental", ".txt");
+        storage = new IncrementalStorage(tempFile.toString());
+        storage.save(List.of(
+                new Todo("First"),
+                new Deadline("Second", "2025-01-30 1700"),
+                new Todo("Third")));
+    }
+
+    /**
+     * Tests that marking a task rewrites only its own line, leaving the rest of the file untouched.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_taskMarked_onlyItsLinePatched() throws IOException {
+        // Arrange
+        List<Task> tasks = storage.load();
+        List<String> linesBefore = Files.readAllLines(tempFile);
+        long sizeBefore = Files.size(tempFile);
+        tasks.get(1).markAsDone();
+
+        // Act
+        storage.record(List.of(new TaskMutation(MutationType.MARK, 1, tasks.get(1))), tasks);
+        List<String> linesAfter = Files.readAllLines(tempFile);
+
+        // Assert
+        assertEquals(sizeBefore, Files.size(tempFile), "Marking a task should not change the file size.");
+        assertEquals(linesBefore.get(0), linesAfter.get(0), "Unchanged lines should be left as they are.");
+        assertEquals(linesBefore.get(2), linesAfter.get(2), "Unchanged lines should be left as they are.");
+        assertEquals(TaskStatus.COMPLETED, new Storage(tempFile.toString()).load().get(1).getTaskStatus(),
+                "The patched line should hold the new status.");
+    }
+
+    /**
+     * Tests that added tasks are appended and that removals fall back to a full rewrite.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_tasksAddedThenRemoved_fileMatchesTaskList() throws IOException {
+        // Arrange
+        List<Task> tasks = new ArrayList<>(storage.load());
+        tasks.add(new Todo("Fourth"));
+        storage.record(List.of(new TaskMutation(MutationType.ADD, 3, tasks.get(3))), tasks);
+
+        // Act
+        tasks.remove(0);
+        storage.record(List.of(new TaskMutation(MutationType.REMOVE, 0, null)), tasks);
+        tasks.get(0).markAsDone();
+        storage.record(List.of(new TaskMutation(MutationType.MARK, 0, tasks.get(0))), tasks);
+        List<Task> loadedTasks = new Storage(tempFile.toString()).load();
+
+        // Assert
+        assertEquals(3, loadedTasks.size(), "The file should hold the remaining tasks.");
+        assertEquals("Second", loadedTasks.get(0).getDescription(), "The removed task should be gone.");
+        assertEquals(TaskStatus.COMPLETED, loadedTasks.get(0).getTaskStatus(), "The status should be kept.");
+        assertEquals("Fourth", loadedTasks.get(2).getDescription(), "The appended task should be kept.");
+    }
+}
@@ -0,0 +1,160 @@
+package helix.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.enums.MutationType;
+import helix.enums.TaskStatus;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Tests the behavior of the {@code JournalStorage} class.
+ */
+public class JournalStorageTest {
+
+    private Path snapshotFile;
+
+    /**
+     * Sets up the test environment by creating a temporary directory for the snapshot and journal files.
+     *
+     * @throws IOException if an error occurs while creating the temporary directory
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshotFile = Files.createTempDirectory("test_journal").resolve("tasks.txt");
+    }
+
+    /**
+     * Tests that changes recorded in the journal are replayed when a new instance loads the snapshot.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_addMarkRemove_changesReplayedOnLoad() throws IOException {
+        // Arrange
+        JournalStorage storage = new JournalStorage(snapshotFile.toString());
+        List<Task> tasks = storage.load();
+
+        // Act
+        addTask(storage, tasks, new Todo("First"));
+        addTask(storage, tasks, new Todo("Second"));
+        tasks.get(1).markAsDone();
+        storage.record(List.of(new TaskMutation(MutationType.MARK, 1, tasks.get(1))), tasks);
+        tasks.remove(0);
+        storage.record(List.of(new TaskMutation(MutationType.REMOVE, 0, null)), tasks);
+        List<Task> loadedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertEquals(1, loadedTasks.size(), "Only the second task should remain.");
+        assertEquals("Second", loadedTasks.get(0).getDescription(), "The remaining task should be 'Second'.");
+        assertEquals(TaskStatus.COMPLETED, loadedTasks.get(0).getTaskStatus(), "The mark should be replayed.");
+    }
+
+    /**
+     * Tests that compaction folds the journal into the snapshot without losing later changes.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_pastCompactionThreshold_snapshotCompacted() throws IOException {
+        // Arrange
+        JournalStorage storage = new JournalStorage(snapshotFile.toString(), 3);
+        List<Task> tasks = storage.load();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            addTask(storage, tasks, new Todo("Task " + i));
+        }
+        storage.awaitCompaction();
+        List<Task> loadedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertTrue(Files.readString(snapshotFile).contains("Task 2"), "The snapshot should hold compacted tasks.");
+        assertEquals(5, loadedTasks.size(), "All tasks should survive compaction.");
+        assertEquals("Task 4", loadedTasks.get(4).getDescription(), "Changes after compaction should be kept.");
+    }
+
+    /**
+     * Tests that a torn final journal entry is ignored instead of failing the load.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_tornFinalEntry_entryIgnored() throws IOException {
+        // Arrange
+        JournalStorage storage = new JournalStorage(snapshotFile.toString());
+        List<Task> tasks = storage.load();
+        addTask(storage, tasks, new Todo("Kept"));
+        Path journal = snapshotFile.resolveSibling("tasks.txt.journal");
+        Files.writeString(journal, Files.readString(journal) + "ADD | 1 | TODO | PEN");
+
+        // Act
+        List<Task> loadedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertEquals(1, loadedTasks.size(), "The torn entry should be ignored.");
+    }
+
+    /**
+     * Tests that changes recorded after loading a journal with a torn final entry survive further reloads.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_afterTornFinalEntry_laterChangesReplayed() throws IOException {
+        // Arrange
+        JournalStorage storage = new JournalStorage(snapshotFile.toString());
+        List<Task> tasks = storage.load();
+        addTask(storage, tasks, new Todo("First"));
+        Path journal = snapshotFile.resolveSibling("tasks.txt.journal");
+        Files.writeString(journal, Files.readString(journal) + "ADD | 1 | TODO | PEN");
+
+        // Act
+        JournalStorage reloadedStorage = new JournalStorage(snapshotFile.toString());
+        List<Task> reloadedTasks = reloadedStorage.load();
+        addTask(reloadedStorage, reloadedTasks, new Todo("Second"));
+        List<Task> loadedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertEquals(2, loadedTasks.size(), "Both complete entries should be replayed.");
+        assertEquals("First", loadedTasks.get(0).getDescription(), "The first task should be kept.");
+        assertEquals("Second", loadedTasks.get(1).getDescription(), "The later task should be replayed.");
+    }
+
+    /**
+     * Tests that changes recorded after loading a journal without a header survive a reload.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void record_afterMissingHeader_laterChangesReplayed() throws IOException {
+        // Arrange
+        new JournalStorage(snapshotFile.toString()).load();
+        Files.writeString(snapshotFile.resolveSibling("tasks.txt.journal"), "");
+
+        // Act
+        JournalStorage storage = new JournalStorage(snapshotFile.toString());
+        List<Task> tasks = storage.load();
+        addTask(storage, tasks, new Todo("Added"));
+        List<Task> loadedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertEquals(1, loadedTasks.size(), "The change after the damaged journal should be replayed.");
+        assertEquals("Added", loadedTasks.get(0).getDescription(), "The replayed task should be 'Added'.");
+    }
+
+    private static void addTask(JournalStorage storage, List<Task> tasks, Task task) throws IOException {
+        tasks.add(task);
+        storage.record(List.of(new TaskMutation(MutationType.ADD, tasks.size() - 1, task)), new ArrayList<>(tasks));
+    }
+}
@@ -0,0 +1,183 @@
+package helix.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.enums.TaskStatus;
+import helix.task.Deadline;
+import helix.task.Task;
+import helix.task.TaskList;
+import helix.task.Todo;
+import helix.ui.ConsoleUi;
+
+/**
+ * Tests the behavior of the {@code LazyStorage} class.
+ */
+public class LazyStorageTest {
+
+    private Path tempFile;
+    private LazyStorage storage;
+
+    /**
+     * Sets up the test environment by writing a small task file to a temporary location.
+     *
+     * @throws IOException if an error occurs while creating the temporary file
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        tempFile = Files.createTempFile("test_lazy", ".txt");
+        new Storage(tempFile.toString()).save(List.of(
+                new Todo("First"),
+                new Deadline("Second", "2025-01-30 1700"),
+                new Todo("Third")));
+        storage = new LazyStorage(tempFile.toString());
+    }
+
+    /**
+     * Tests that loading indexes every line but only parses the tasks that are accessed.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_largeFile_tasksParsedOnFirstAccess() throws IOException {
+        // Act
+        LazyTaskList tasks = (LazyTaskList) storage.load();
+        Task second = tasks.get(1);
+
+        // Assert
+        assertEquals(3, tasks.size(), "Every line should be indexed.");
+        assertFalse(tasks.isMaterialized(0), "Tasks that were not accessed should stay unparsed.");
+        assertTrue(tasks.isMaterialized(1), "Accessed tasks should be parsed.");
+        assertEquals("Second", second.getDescription(), "The parsed task should match the file.");
+    }
+
+    /**
+     * Tests that a task list over a lazily loaded file gives new tasks IDs and finds tasks by ID
+     * without parsing the other tasks.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void findTaskIndexById_lazilyLoadedTasks_tasksStayUnparsed() throws IOException {
+        // Arrange
+        List<Task> tasksWithIds = List.of(new Todo("First"), new Todo("Second"), new Todo("Third"));
+        for (int i = 0; i < tasksWithIds.size(); i++) {
+            tasksWithIds.get(i).setId(i + 1);
+        }
+        new Storage(tempFile.toString()).save(tasksWithIds);
+        LazyTaskList[] loadedTasks = new LazyTaskList[1];
+        TaskList taskList = new TaskList(new LazyStorage(tempFile.toString()) {
+            @Override
+            public List<Task> load() throws IOException {
+                loadedTasks[0] = (LazyTaskList) super.load();
+                return loadedTasks[0];
+            }
+        });
+
+        // Act
+        taskList.addTask(new Todo("Fourth"), new ConsoleUi());
+        int secondIndex = taskList.findTaskIndexById(2);
+
+        // Assert
+        assertEquals(4, taskList.getTask(3).getId(), "The new task should get the next ID.");
+        assertEquals(1, secondIndex, "The task should be found by its ID.");
+        for (int i = 0; i < 3; i++) {
+            assertFalse(loadedTasks[0].isMaterialized(i), "Loaded tasks should stay unparsed.");
+        }
+    }
+
+    /**
+     * Tests that removing several tasks from a task list over a lazily loaded file leaves the remaining tasks
+     * unparsed, and that the removal is saved.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void removeTasks_lazilyLoadedTasks_remainingTasksStayUnparsed() throws IOException {
+        // Arrange
+        List<Task> tasksWithIds = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Task task = new Todo("Task " + i);
+            task.setId(i);
+            tasksWithIds.add(task);
+        }
+        new Storage(tempFile.toString()).save(tasksWithIds);
+        LazyTaskList[] loadedTasks = new LazyTaskList[1];
+        TaskList taskList = new TaskList(new LazyStorage(tempFile.toString()) {
+            @Override
+            public List<Task> load() throws IOException {
+                loadedTasks[0] = (LazyTaskList) super.load();
+                return loadedTasks[0];
+            }
+        });
+
+        // Act
+        List<Task> removedTasks = taskList.removeTasks(new int[] {1, 3}, new ConsoleUi());
+
+        // Assert
+        assertEquals(2, removedTasks.size(), "Both tasks should be removed.");
+        assertEquals("Task 4", removedTasks.get(1).getDescription(), "The removed tasks should be returned in order.");
+        int[] expectedIds = {1, 3, 5, 6};
+        assertEquals(expectedIds.length, loadedTasks[0].size(), "Four tasks should remain.");
+        for (int i = 0; i < expectedIds.length; i++) {
+            assertFalse(loadedTasks[0].isMaterialized(i), "Remaining tasks should stay unparsed.");
+            assertEquals(expectedIds[i], loadedTasks[0].getTaskId(i), "The remaining tasks should keep their order.");
+        }
+        List<Task> savedTasks = new Storage(tempFile.toString()).load();
+        assertEquals("Task 5", savedTasks.get(2).getDescription(), "The removal should be saved.");
+    }
+
+    /**
+     * Tests that saving keeps both unparsed lines and changes made to parsed tasks.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void save_partiallyMaterializedList_allTasksPersisted() throws IOException {
+        // Arrange
+        List<Task> tasks = storage.load();
+        tasks.get(2).markAsDone();
+        tasks.remove(1);
+        tasks.add(new Todo("Fourth"));
+
+        // Act
+        storage.save(tasks);
+        List<Task> loadedTasks = new Storage(tempFile.toString()).load();
+
+        // Assert
+        assertEquals(3, loadedTasks.size(), "The saved file should hold three tasks.");
+        assertEquals("First", loadedTasks.get(0).getDescription(), "Unparsed lines should be copied as-is.");
+        assertEquals(TaskStatus.COMPLETED, loadedTasks.get(1).getTaskStatus(), "Changes should be saved.");
+        assertEquals("Fourth", loadedTasks.get(2).getDescription(), "Added tasks should be saved.");
+    }
+
+    /**
+     * Tests that removing tasks by condition keeps the raw lines of the remaining tasks.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void removeIf_secondTask_remainingLinesKept() throws IOException {
+        // Arrange
+        List<Task> tasks = storage.load();
+
+        // Act
+        tasks.removeIf(task -> task.getDescription().equals("Second"));
+        storage.save(tasks);
+        List<Task> loadedTasks = new Storage(tempFile.toString()).load();
+
+        // Assert
+        assertEquals(2, loadedTasks.size(), "Only the second task should be removed.");
+        assertEquals("Third", loadedTasks.get(1).getDescription(), "Later tasks should move forward.");
+    }
+}
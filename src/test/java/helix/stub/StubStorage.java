@@ -17,6 +17,8 @@ import helix.task.Task;
  */
 public class StubStorage extends Storage {
 
+    private int saveCount;
+
     /**
      * Constructs a {@code StubStorage} instance.
      * <p>
@@ -45,14 +47,23 @@ public class StubStorage extends Storage {
     /**
      * Simulates saving tasks without performing any actual operations.
      * <p>
-     * This method is overridden to prevent file I/O operations during tests. It does nothing
-     * with the provided list of tasks, ensuring test isolation.
+     * This method is overridden to prevent file I/O operations during tests. It only counts the call
+     * and does nothing with the provided list of tasks, ensuring test isolation.
      * </p>
      *
      * @param tasks the {@link List} of {@link Task} objects to "save" (ignored in this stub implementation)
      */
     @Override
     public void save(List<Task> tasks) {
-        // Do nothing, as this is a stub
+        saveCount++; // Only count the call, as this is a stub
+    }
+
+    /**
+     * Retrieves the number of times tasks were "saved" to this stub.
+     *
+     * @return the number of save calls
+     */
+    public int getSaveCount() {
+        return saveCount;
     }
 }
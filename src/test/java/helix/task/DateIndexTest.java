@@ -0,0 +1,91 @@
+package helix.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of the {@code DateIndex} class.
+ */
+public class DateIndexTest {
+
+    private DateIndex dateIndex;
+    private Task report;
+    private Task taxes;
+    private Task conference;
+    private Task meeting;
+
+    /**
+     * Sets up an index holding two deadlines, two events and a todo.
+     */
+    @BeforeEach
+    void setUp() {
+        dateIndex = new DateIndex();
+        report = new Deadline("Submit report", LocalDateTime.of(2025, 3, 5, 12, 0));
+        taxes = new Deadline("File taxes", LocalDateTime.of(2025, 4, 1, 9, 0));
+        conference = new Event("Conference", LocalDateTime.of(2025, 2, 20, 9, 0),
+                LocalDateTime.of(2025, 3, 10, 17, 0));
+        meeting = new Event("Team meeting", LocalDateTime.of(2025, 3, 4, 14, 0),
+                LocalDateTime.of(2025, 3, 4, 15, 0));
+        dateIndex.add(taxes);
+        dateIndex.add(report);
+        dateIndex.add(conference);
+        dateIndex.add(meeting);
+        dateIndex.add(new Todo("Read book"));
+    }
+
+    /**
+     * Tests that only deadlines within the window are returned, ordered by due date.
+     */
+    @Test
+    void findDeadlinesDue_windowCoversOneDeadline_onlyThatDeadlineFound() {
+        List<Task> dueTasks = dateIndex.findDeadlinesDue(LocalDateTime.of(2025, 3, 1, 0, 0),
+                LocalDateTime.of(2025, 3, 31, 23, 59));
+
+        assertEquals(List.of(report), dueTasks, "Only the report should be due in March.");
+    }
+
+    /**
+     * Tests that an event starting before the window but ending inside it is found.
+     */
+    @Test
+    void findEventsOverlapping_longEventStartedEarlier_overlapFound() {
+        List<Task> events = dateIndex.findEventsOverlapping(LocalDateTime.of(2025, 3, 5, 0, 0),
+                LocalDateTime.of(2025, 3, 6, 0, 0));
+
+        assertEquals(List.of(conference), events, "Only the conference should still be running on 5 March.");
+    }
+
+    /**
+     * Tests that overlapping events are found in start order once a long event has been removed.
+     */
+    @Test
+    void findEventsOverlapping_longEventRemoved_remainingOverlapsFound() {
+        Task workshop = new Event("Workshop", LocalDateTime.of(2025, 3, 4, 9, 0),
+                LocalDateTime.of(2025, 3, 4, 14, 0));
+        dateIndex.add(workshop);
+        dateIndex.remove(conference);
+
+        List<Task> events = dateIndex.findEventsOverlapping(LocalDateTime.of(2025, 3, 4, 14, 0),
+                LocalDateTime.of(2025, 3, 4, 14, 30));
+
+        assertEquals(List.of(workshop, meeting), events, "Events touching the window should be found in start order.");
+    }
+
+    /**
+     * Tests that removed tasks no longer appear in query results.
+     */
+    @Test
+    void findDeadlinesDue_afterRemove_removedDeadlineNotFound() {
+        dateIndex.remove(report);
+
+        List<Task> dueTasks = dateIndex.findDeadlinesDue(LocalDateTime.of(2025, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 12, 31, 0, 0));
+
+        assertEquals(List.of(taxes), dueTasks, "The removed deadline should not be returned.");
+    }
+}
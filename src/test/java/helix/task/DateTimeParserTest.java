@@ -0,0 +1,51 @@
+package helix.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of the {@code DateTimeParser} class.
+ */
+public class DateTimeParserTest {
+
+    /**
+     * Tests that each supported format is recognised and parsed.
+     */
+    @Test
+    void parse_supportedFormats_parsedCorrectly() {
+        LocalDateTime expected = LocalDateTime.of(2019, 10, 2, 18, 5);
+
+        assertEquals(expected, DateTimeParser.parse("2/10/2019 1805"), "d/M/yyyy HHmm should be parsed.");
+        assertEquals(expected, DateTimeParser.parse("2019-10-02 1805"), "yyyy-MM-dd HHmm should be parsed.");
+        assertEquals(expected, DateTimeParser.parse("Oct 02 2019, 6:05 PM"), "The storage format should be parsed.");
+        assertEquals(expected, DateTimeParser.parse("oct 02 2019, 6:05 pm"), "Case should be ignored.");
+    }
+
+    /**
+     * Tests that stored date-times can be parsed back to the same value.
+     */
+    @Test
+    void parse_formattedDateTime_roundTrips() {
+        LocalDateTime midnight = LocalDateTime.of(2025, 1, 30, 0, 0);
+
+        String formatted = midnight.format(DateTimeParser.STORAGE_FORMATTER);
+
+        assertEquals(midnight, DateTimeParser.parse(formatted), "Formatted date-times should parse back unchanged.");
+    }
+
+    /**
+     * Tests that malformed or out-of-range input yields null instead of an exception.
+     */
+    @Test
+    void parse_invalidInput_returnsNull() {
+        assertNull(DateTimeParser.parse("tomorrow"), "Unrecognised text should not be parsed.");
+        assertNull(DateTimeParser.parse("2019-13-02 1805"), "Month 13 should be rejected.");
+        assertNull(DateTimeParser.parse("2/10/2019 2460"), "Minute 60 should be rejected.");
+        assertNull(DateTimeParser.parse("Oct 02 2019, 13:05 PM"), "Hour 13 on a 12-hour clock should be rejected.");
+        assertNull(DateTimeParser.parse(""), "Empty text should not be parsed.");
+    }
+}
@@ -0,0 +1,91 @@
+package helix.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the behavior of the {@code KeywordIndex} class.
+ */
+public class KeywordIndexTest {
+
+    private KeywordIndex keywordIndex;
+    private Task groceries;
+    private Task report;
+    private Task moreGroceries;
+
+    /**
+     * Sets up an index holding three tasks.
+     */
+    @BeforeEach
+    void setUp() {
+        keywordIndex = new KeywordIndex();
+        groceries = new Todo("Buy Groceries");
+        report = new Todo("Write report");
+        moreGroceries = new Todo("Return grocery bags");
+        keywordIndex.add(groceries);
+        keywordIndex.add(report);
+        keywordIndex.add(moreGroceries);
+    }
+
+    /**
+     * Tests that substring matches ignore case and are returned in task list order.
+     */
+    @Test
+    void find_substringDifferentCase_matchesInListOrder() {
+        assertEquals(List.of(groceries, moreGroceries), keywordIndex.find("GROCER"),
+                "Both grocery tasks should match in the order they were added.");
+    }
+
+    /**
+     * Tests that keywords shorter than a trigram are still matched.
+     */
+    @Test
+    void find_shortKeyword_matchesFound() {
+        assertEquals(List.of(report, moreGroceries), keywordIndex.find("re"),
+                "Keywords shorter than three characters should fall back to a scan.");
+    }
+
+    /**
+     * Tests that removed and updated tasks are reflected in later searches.
+     */
+    @Test
+    void find_afterRemoveAndUpdate_indexUpToDate() {
+        keywordIndex.remove(groceries);
+        report.setDescription("Buy stamps");
+        keywordIndex.update(report);
+
+        assertEquals(List.of(moreGroceries), keywordIndex.find("grocer"), "Removed tasks should not match.");
+        assertEquals(List.of(report), keywordIndex.find("stamps"), "Updated descriptions should match.");
+        assertEquals(List.of(), keywordIndex.find("report"), "Old descriptions should no longer match.");
+    }
+
+    /**
+     * Tests that a query with swapped letters still finds the task it was meant for, ranked first.
+     */
+    @Test
+    void search_typoInQuery_closestMatchRankedFirst() {
+        keywordIndex.add(new Todo("Reply to team"));
+
+        List<Task> results = keywordIndex.search("reoprt", 5);
+
+        assertEquals(report, results.get(0), "The task with the mistyped word should be the best match.");
+    }
+
+    /**
+     * Tests that exact matches outrank partial ones, shorter descriptions win ties and the limit is kept.
+     */
+    @Test
+    void search_moreMatchesThanLimit_bestMatchesKept() {
+        Task groceryList = new Todo("Grocery list");
+        keywordIndex.add(groceryList);
+
+        List<Task> results = keywordIndex.search("grocery", 2);
+
+        assertEquals(List.of(groceryList, moreGroceries), results,
+                "Exact matches should come first, shortest description first, up to the limit.");
+    }
+}
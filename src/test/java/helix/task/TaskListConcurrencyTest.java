@@ -0,0 +1,160 @@
+package helix.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import helix.stub.StubStorage;
+import helix.ui.ConsoleUi;
+
+/**
+ * Stress tests the {@code TaskList} class with many threads changing and querying it at once.
+ *
+ * <p>
+ * Each test checks a property that only holds if every operation takes effect as a single step
+ * at some point between its start and end, i.e. if the task list behaves linearizably.
+ * </p>
+ */
+public class TaskListConcurrencyTest {
+    private static final int WRITER_COUNT = 8;
+    private static final int READER_COUNT = 4;
+    private static final int OPERATIONS_PER_THREAD = 500;
+
+    private TaskList taskList;
+    private ExecutorService executor;
+    private CountDownLatch startGate;
+
+    /**
+     * Sets up an empty task list and a thread pool large enough to run every thread at once.
+     *
+     * @throws IOException if an error occurs during setup (unlikely with {@link StubStorage})
+     */
+    @BeforeEach
+    void setUp() throws IOException {
+        taskList = new TaskList(new StubStorage());
+        executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        startGate = new CountDownLatch(1);
+    }
+
+    /**
+     * Shuts down the thread pool.
+     */
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests that concurrent adds each see a distinct list size, and that concurrent readers never see
+     * the keyword index out of step with the list.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    void addTask_concurrentWritersAndReaders_eachAddObservesDistinctSize() throws Exception {
+        ConcurrentLinkedQueue<Integer> observedSizes = new ConcurrentLinkedQueue<>();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicInteger inconsistentReads = new AtomicInteger();
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            int writerId = w;
+            writers.add(executor.submit(() -> {
+                ConsoleUi consoleUi = new ConsoleUi();
+                startGate.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    Task task = new Todo("task " + writerId + "-" + i);
+                    taskList.runAtomically(false, () -> {
+                        taskList.addTask(task, consoleUi);
+                        observedSizes.add(taskList.getTaskCount());
+                    });
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < READER_COUNT; r++) {
+            readers.add(executor.submit(() -> {
+                startGate.await();
+                while (isWriting.get()) {
+                    taskList.runAtomically(true, () -> {
+                        if (taskList.findTasks("task").size() != taskList.getTasks().size()) {
+                            inconsistentReads.incrementAndGet();
+                        }
+                    });
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        isWriting.set(false);
+        for (Future<?> reader : readers) {
+            reader.get();
+        }
+
+        int totalAdds = WRITER_COUNT * OPERATIONS_PER_THREAD;
+        List<Integer> sortedSizes = new ArrayList<>(observedSizes);
+        sortedSizes.sort(null);
+        for (int i = 0; i < totalAdds; i++) {
+            assertEquals(i + 1, (int) sortedSizes.get(i), "Every add should observe a distinct list size.");
+        }
+        assertEquals(totalAdds, taskList.getTaskCount(), "No add should be lost.");
+        assertEquals(0, inconsistentReads.get(), "Readers should never see the index out of step with the list.");
+    }
+
+    /**
+     * Tests that concurrent check-then-act toggles of the same task are not lost.
+     *
+     * @throws Exception if a thread fails
+     */
+    @Test
+    void markTaskAsDone_concurrentToggles_noToggleLost() throws Exception {
+        ConsoleUi setupUi = new ConsoleUi();
+        taskList.addTask(new Todo("Shared task"), setupUi);
+        AtomicInteger completions = new AtomicInteger();
+        List<Future<?>> togglers = new ArrayList<>();
+
+        for (int t = 0; t < WRITER_COUNT; t++) {
+            togglers.add(executor.submit(() -> {
+                ConsoleUi consoleUi = new ConsoleUi();
+                startGate.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    taskList.runAtomically(false, () -> {
+                        if (taskList.getTask(0).getTaskStatus().isDone()) {
+                            taskList.markTaskAsUndone(0, consoleUi);
+                        } else {
+                            taskList.markTaskAsDone(0, consoleUi);
+                            completions.incrementAndGet();
+                        }
+                    });
+                }
+                return null;
+            }));
+        }
+        startGate.countDown();
+        for (Future<?> toggler : togglers) {
+            toggler.get();
+        }
+
+        int totalToggles = WRITER_COUNT * OPERATIONS_PER_THREAD;
+        assertEquals(totalToggles / 2, completions.get(), "Toggles should alternate between done and undone.");
+        assertFalse(taskList.getTask(0).getTaskStatus().isDone(), "An even number of toggles should leave the task undone.");
+    }
+}
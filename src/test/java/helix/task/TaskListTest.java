@@ -1,12 +1,21 @@
 package helix.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import helix.enums.OutputSymbol;
+import helix.enums.TaskStatus;
+import helix.storage.JournalStorage;
 import helix.stub.StubStorage;
 import helix.ui.ConsoleUi;
 
@@ -73,4 +82,216 @@ public class TaskListTest {
         assertEquals("Sample Task", removedTask.getDescription(), "The removed task's description should match.");
         assertEquals(0, taskList.getTaskCount(), "Task count should be 0 after removing the task.");
     }
+
+    /**
+     * Tests that a {@link TaskList} with batched persistence coalesces a burst of changes into one write.
+     *
+     * <p>
+     * With a batch size of three and a long flush interval, the first two changes stay pending,
+     * the third triggers a single write, and a later {@link TaskList#flush(ConsoleUi)} writes the remainder.
+     * </p>
+     *
+     * @throws IOException if an error occurs during setup (unlikely with {@link StubStorage})
+     */
+    @Test
+    void addTask_batchedPersistence_burstCoalescedIntoSingleWrite() throws IOException {
+        TaskList batchedTaskList = new TaskList(stubStorage, 60_000, 3);
+        batchedTaskList.addTask(new Todo("First"), consoleUi);
+        batchedTaskList.addTask(new Todo("Second"), consoleUi);
+        assertEquals(0, stubStorage.getSaveCount(), "Changes below the batch size should stay pending.");
+
+        batchedTaskList.addTask(new Todo("Third"), consoleUi);
+        assertEquals(1, stubStorage.getSaveCount(), "A full batch should be written once.");
+
+        batchedTaskList.addTask(new Todo("Fourth"), consoleUi);
+        batchedTaskList.flush(consoleUi);
+        assertEquals(2, stubStorage.getSaveCount(), "Flushing should write the remaining change.");
+        batchedTaskList.close(consoleUi);
+    }
+
+    /**
+     * Tests that closing a {@link TaskList} with batched persistence writes the pending changes,
+     * and that changes made after closing are written immediately instead of being batched.
+     *
+     * @throws IOException if an error occurs during setup (unlikely with {@link StubStorage})
+     */
+    @Test
+    void close_batchedPersistence_pendingWrittenAndLaterChangesImmediate() throws IOException {
+        TaskList batchedTaskList = new TaskList(stubStorage, 60_000, 3);
+        batchedTaskList.addTask(new Todo("First"), consoleUi);
+
+        batchedTaskList.close(consoleUi);
+        assertEquals(1, stubStorage.getSaveCount(), "Closing should write the pending change.");
+
+        batchedTaskList.addTask(new Todo("Second"), consoleUi);
+        assertEquals(2, stubStorage.getSaveCount(), "A change after closing should be written immediately.");
+    }
+
+    /**
+     * Tests that removing several tasks at once keeps the remaining tasks in order, saves only once,
+     * and records the removals so that a journal replays them correctly.
+     *
+     * @throws IOException if an error occurs while using the journal
+     */
+    @Test
+    void removeTasks_severalIndices_remainingTasksKeptAndSavedOnce() throws IOException {
+        // Arrange
+        Path snapshotFile = Files.createTempDirectory("test_bulk").resolve("tasks.txt");
+        TaskList journalTaskList = new TaskList(new JournalStorage(snapshotFile.toString()));
+        for (int i = 1; i <= 6; i++) {
+            journalTaskList.addTask(new Todo("Task " + i), consoleUi);
+            taskList.addTask(new Todo("Task " + i), consoleUi);
+        }
+        int savesBefore = stubStorage.getSaveCount();
+
+        // Act
+        taskList.removeTasks(new int[] {0, 2, 3, 5}, consoleUi);
+        journalTaskList.removeTasks(new int[] {0, 2, 3, 5}, consoleUi);
+        List<Task> replayedTasks = new JournalStorage(snapshotFile.toString()).load();
+
+        // Assert
+        assertEquals(1, stubStorage.getSaveCount() - savesBefore, "The removals should be saved once.");
+        assertEquals(2, taskList.getTaskCount(), "Two tasks should remain.");
+        assertEquals("Task 2", taskList.getTask(0).getDescription(), "The remaining tasks should keep their order.");
+        assertEquals("Task 5", taskList.getTask(1).getDescription(), "The remaining tasks should keep their order.");
+        assertEquals(2, replayedTasks.size(), "The journal should replay every removal.");
+        assertEquals("Task 5", replayedTasks.get(1).getDescription(), "The journal should remove the same tasks.");
+    }
+
+    /**
+     * Tests that marking several tasks at once only changes the tasks that were not already done.
+     */
+    @Test
+    void markTasksAsDone_someAlreadyDone_onlyPendingTasksMarked() {
+        // Arrange
+        for (int i = 1; i <= 3; i++) {
+            taskList.addTask(new Todo("Task " + i), consoleUi);
+        }
+        taskList.markTaskAsDone(1, consoleUi);
+
+        // Act
+        List<Task> markedTasks = taskList.markTasksAsDone(new int[] {0, 1, 2}, consoleUi);
+
+        // Assert
+        assertEquals(2, markedTasks.size(), "Only the pending tasks should be marked.");
+        assertEquals(TaskStatus.COMPLETED, taskList.getTask(2).getTaskStatus(), "Every task should now be done.");
+    }
+
+    /**
+     * Tests that a task keeps its ID, and can still be found by it, after earlier tasks are removed.
+     */
+    @Test
+    void findTaskIndexById_earlierTasksRemoved_taskFoundAtNewPosition() {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            taskList.addTask(new Todo("Task " + i), consoleUi);
+        }
+        int taskId = taskList.getTask(3).getId();
+
+        // Act
+        taskList.removeTasks(new int[] {0, 1}, consoleUi);
+        int taskIndex = taskList.findTaskIndexById(taskId);
+
+        // Assert
+        assertEquals(1, taskIndex, "The task should have moved up by two positions.");
+        assertEquals("Task 4", taskList.getTask(taskIndex).getDescription(), "The ID should still name the task.");
+        assertEquals(-1, taskList.findTaskIndexById(taskList.getTask(0).getId() - 2),
+                "A removed task's ID should not be found.");
+    }
+
+    /**
+     * Tests that the pending deadline scan skips done tasks and follows changes made after its first use.
+     */
+    @Test
+    void findPendingDeadlinesBefore_tasksChangedAfterFirstQuery_resultsFollowChanges() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2025, 3, 1, 0, 0);
+        taskList.addTask(new Deadline("Pay rent", "2025-02-28 2359"), consoleUi);
+        taskList.addTask(new Todo("Buy milk"), consoleUi);
+        taskList.addTask(new Deadline("File taxes", "2025-04-15 1200"), consoleUi);
+        taskList.addTask(new Deadline("Renew passport", "2025-02-01 0900"), consoleUi);
+        assertEquals(2, taskList.findPendingDeadlinesBefore(before).size(), "Two deadlines should be due.");
+
+        // Act
+        taskList.markTaskAsDone(0, consoleUi);
+        taskList.removeTask(1, consoleUi);
+        taskList.addTask(new Deadline("Book flights", "2025-02-20 1800"), consoleUi);
+        List<Task> pendingTasks = taskList.findPendingDeadlinesBefore(before);
+
+        // Assert
+        assertEquals(2, pendingTasks.size(), "Done deadlines should not be listed.");
+        assertEquals("Renew passport", pendingTasks.get(0).getDescription(), "Results should be in list order.");
+        assertEquals("Book flights", pendingTasks.get(1).getDescription(), "Added deadlines should be listed.");
+    }
+
+    /**
+     * Tests that a task's cached text is rebuilt after the task is marked or its details are updated.
+     */
+    @Test
+    void updateTask_taskRenderedBefore_newDetailsShown() {
+        // Arrange
+        taskList.addTask(new Deadline("Pay rent", "2025-02-28 2359"), consoleUi);
+        Task task = taskList.getTask(0);
+        String textBefore = task.toString();
+
+        // Act
+        taskList.markTaskAsDone(0, consoleUi);
+        String markedText = task.toString();
+        taskList.updateTask(0, "Pay rent - 2025-03-31 2359", consoleUi);
+
+        // Assert
+        assertEquals(textBefore.replace("[ ]", "[" + OutputSymbol.CHECKMARK.getSymbol() + "]"), markedText,
+                "Marking a task should change its cached text.");
+        assertEquals("Mar 31 2025, 11:59 PM", task.getTaskDetails(),
+                "Updating a task should change its cached details.");
+        assertSame(task.toString(), task.toString(), "The cached text should be reused.");
+    }
+
+    /**
+     * Tests that an update with an invalid date leaves the task, the indexes and the storage untouched.
+     */
+    @Test
+    void updateTask_invalidDate_taskUnchanged() {
+        // Arrange
+        taskList.addTask(new Deadline("Pay rent", "2025-02-28 2359"), consoleUi);
+        taskList.findTasks("rent");
+        int saveCountBefore = stubStorage.getSaveCount();
+
+        // Act
+        assertThrows(IllegalArgumentException.class, () -> taskList.updateTask(0, "Pay bills - baddate", consoleUi),
+                "An invalid date should be rejected.");
+
+        // Assert
+        assertEquals("Pay rent", taskList.getTask(0).getDescription(), "The description should not change.");
+        assertEquals(1, taskList.findTasks("rent").size(), "The task should still be found by its old description.");
+        assertEquals(0, taskList.findTasks("bills").size(), "The task should not be found by the rejected one.");
+        assertEquals(saveCountBefore, stubStorage.getSaveCount(), "Nothing should be saved.");
+    }
+
+    /**
+     * Tests that an event update ending before it starts is rejected and leaves the event and the date index
+     * untouched.
+     */
+    @Test
+    void updateTask_eventEndBeforeStart_taskUnchanged() {
+        // Arrange
+        taskList.addTask(new Event("Conference", "2025-03-10 0900", "2025-03-10 1700"), consoleUi);
+        LocalDateTime from = LocalDateTime.of(2025, 3, 10, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 10, 23, 59);
+        taskList.findEventsOverlapping(from, to);
+        int saveCountBefore = stubStorage.getSaveCount();
+
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> taskList.updateTask(0, "Workshop - 2025-04-02 1700 - 2025-04-01 0900", consoleUi),
+                "An end before the start should be rejected.");
+
+        // Assert
+        Event event = (Event) taskList.getTask(0);
+        assertEquals("Conference", event.getDescription(), "The description should not change.");
+        assertEquals(LocalDateTime.of(2025, 3, 10, 9, 0), event.getStartDateTime(), "The start should not change.");
+        assertEquals(1, taskList.findEventsOverlapping(from, to).size(),
+                "The event should still be found on its date.");
+        assertEquals(saveCountBefore, stubStorage.getSaveCount(), "Nothing should be saved.");
+    }
 }